@@ -27,11 +27,13 @@ import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Concrete BeanInformation that gathers and contains information about a JavaBean by using java.beans.BeanInfo.
+ * Instances are immutable once constructed, so they can be shared between tests and threads.
  * 
  * @author Graham Williamson
  */
@@ -99,7 +101,7 @@ class JavaBeanInformation implements BeanInformation {
 	 */
 	@Override
 	public Collection<String> getPropertyNames() {
-		return properties.keySet();
+		return Collections.unmodifiableSet(properties.keySet());
 	}
 
 	/**
@@ -109,6 +111,6 @@ class JavaBeanInformation implements BeanInformation {
 	 */
 	@Override
 	public Collection<PropertyInformation> getProperties() {
-		return properties.values();
+		return Collections.unmodifiableCollection(properties.values());
 	}
 }
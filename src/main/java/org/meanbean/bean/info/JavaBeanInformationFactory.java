@@ -21,16 +21,43 @@
 package org.meanbean.bean.info;
 
 import org.kohsuke.MetaInfServices;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete BeanInformationFactory that creates concrete JavaBeanInformation objects from/based on a specified
  * beanClass.
  * 
+ * <p>
+ * Each type is introspected only once. The resulting BeanInformation is cached against the type itself, so it does
+ * not prevent the type's class loader from being unloaded. Use {@link #clearCache()} to discard all cached
+ * information.
+ * </p>
+ * 
  * @author Graham Williamson
  */
 @MetaInfServices
 public class JavaBeanInformationFactory implements BeanInformationFactory {
 
+	/** BeanInformation for each type introspected so far. Replaced as a whole when the cache is cleared. */
+	private static volatile ClassValue<BeanInformation> cache = newCache();
+
+	private static ClassValue<BeanInformation> newCache() {
+		return new ClassValue<BeanInformation>() {
+			@Override
+			protected BeanInformation computeValue(Class<?> type) {
+				return new JavaBeanInformation(type);
+			}
+		};
+	}
+
+	/**
+	 * Discard all cached BeanInformation, so that types are introspected again on next use. Useful in long-lived
+	 * processes where bean classes may be redefined.
+	 */
+	public static void clearCache() {
+		cache = newCache();
+	}
+
 	/**
 	 * Create a BeanInformation object from/based on the specified beanClass.
 	 * 
@@ -48,6 +75,7 @@ public class JavaBeanInformationFactory implements BeanInformationFactory {
 	 */
 	@Override
     public BeanInformation create(Class<?> beanClass) throws IllegalArgumentException, BeanInformationException {
-		return new JavaBeanInformation(beanClass);
+		ValidationHelper.ensureExists("beanClass", "gather JavaBean information", beanClass);
+		return cache.get(beanClass);
 	}
 }
@@ -0,0 +1,260 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * PropertyAccessor that invokes a property's getter and setter through MethodHandles bound once at construction.
+ * 
+ * <p>
+ * Calls whose arguments the handle cannot take without conversion (for example a bean of the wrong type, or an Integer
+ * passed to a long setter) fall back to {@link Method#invoke}, so that the outcome is always the same as for plain
+ * reflection. Public methods of non-public bean classes are made accessible, as they would be through reflection from
+ * the bean's own package.
+ * </p>
+ */
+final class MethodHandlePropertyAccessor implements PropertyAccessor {
+
+	/** Handle type of a getter once adapted: (Object)Object. */
+	private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/** Handle type of a setter once adapted: (Object,Object)void. */
+	private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final String propertyName;
+
+	private final Method readMethod;
+
+	private final Method writeMethod;
+
+	/** Adapted handle of readMethod, or null if the property is not readable or the method cannot be accessed. */
+	private final MethodHandle reader;
+
+	/** Adapted handle of writeMethod, or null if the property is not writable or the method cannot be accessed. */
+	private final MethodHandle writer;
+
+	/** The type the write method accepts, with primitives replaced by their wrapper type. */
+	private final Class<?> writeValueType;
+
+	/** Handle of readMethod adapted to (Object)p, if it returns a primitive p; otherwise null. */
+	private final MethodHandle primitiveReader;
+
+	/** Handle of writeMethod adapted to (Object,p)void, if it accepts a primitive p; otherwise null. */
+	private final MethodHandle primitiveWriter;
+
+	MethodHandlePropertyAccessor(String propertyName, Method readMethod, Method writeMethod) {
+		this.propertyName = propertyName;
+		this.readMethod = readMethod;
+		this.writeMethod = writeMethod;
+		this.reader = unreflect(readMethod, READER_TYPE);
+		this.writer = unreflect(writeMethod, WRITER_TYPE);
+		this.writeValueType = writeMethod == null ? null
+				: MethodType.methodType(writeMethod.getParameterTypes()[0]).wrap().returnType();
+		this.primitiveReader = readMethod == null || !readMethod.getReturnType().isPrimitive() ? null
+				: unreflect(readMethod, MethodType.methodType(readMethod.getReturnType(), Object.class));
+		this.primitiveWriter = writeMethod == null || !writeMethod.getParameterTypes()[0].isPrimitive() ? null
+				: unreflect(writeMethod, MethodType.methodType(void.class, Object.class,
+						writeMethod.getParameterTypes()[0]));
+	}
+
+	private static MethodHandle unreflect(Method method, MethodType type) {
+		if (method == null || method.getParameterCount() != type.parameterCount() - 1) {
+			return null;
+		}
+		try {
+			if (!isPublic(method)) {
+				// e.g. a public getter of a package-private bean class
+				method.setAccessible(true);
+			}
+			return MethodHandles.lookup().unreflect(method).asType(type);
+		} catch (IllegalAccessException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static boolean isPublic(Method method) {
+		return Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+	}
+
+	@Override
+	public Object read(Object bean) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (readMethod == null) {
+			throw new IllegalAccessException("Property [" + propertyName + "] is not readable.");
+		}
+		if (reader == null || !readMethod.getDeclaringClass().isInstance(bean)) {
+			return readMethod.invoke(bean);
+		}
+		try {
+			return (Object) reader.invokeExact(bean);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public void write(Object bean, Object value) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (writeMethod == null) {
+			throw new IllegalAccessException("Property [" + propertyName + "] is not writable.");
+		}
+		if (writer == null || !writeMethod.getDeclaringClass().isInstance(bean) || !isExactArgument(value)) {
+			writeMethod.invoke(bean, value);
+			return;
+		}
+		try {
+			writer.invokeExact(bean, value);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public int readInt(Object bean) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (!canReadPrimitive(int.class, bean)) {
+			return PropertyAccessor.super.readInt(bean);
+		}
+		try {
+			return (int) primitiveReader.invokeExact(bean);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public void writeInt(Object bean, int value) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (!canWritePrimitive(int.class, bean)) {
+			PropertyAccessor.super.writeInt(bean, value);
+			return;
+		}
+		try {
+			primitiveWriter.invokeExact(bean, value);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public long readLong(Object bean) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (!canReadPrimitive(long.class, bean)) {
+			return PropertyAccessor.super.readLong(bean);
+		}
+		try {
+			return (long) primitiveReader.invokeExact(bean);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public void writeLong(Object bean, long value) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (!canWritePrimitive(long.class, bean)) {
+			PropertyAccessor.super.writeLong(bean, value);
+			return;
+		}
+		try {
+			primitiveWriter.invokeExact(bean, value);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public double readDouble(Object bean) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (!canReadPrimitive(double.class, bean)) {
+			return PropertyAccessor.super.readDouble(bean);
+		}
+		try {
+			return (double) primitiveReader.invokeExact(bean);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public void writeDouble(Object bean, double value) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (!canWritePrimitive(double.class, bean)) {
+			PropertyAccessor.super.writeDouble(bean, value);
+			return;
+		}
+		try {
+			primitiveWriter.invokeExact(bean, value);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public boolean readBoolean(Object bean) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (!canReadPrimitive(boolean.class, bean)) {
+			return PropertyAccessor.super.readBoolean(bean);
+		}
+		try {
+			return (boolean) primitiveReader.invokeExact(bean);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public void writeBoolean(Object bean, boolean value) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (!canWritePrimitive(boolean.class, bean)) {
+			PropertyAccessor.super.writeBoolean(bean, value);
+			return;
+		}
+		try {
+			primitiveWriter.invokeExact(bean, value);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	private boolean canReadPrimitive(Class<?> type, Object bean) {
+		return primitiveReader != null && readMethod.getReturnType() == type
+				&& readMethod.getDeclaringClass().isInstance(bean);
+	}
+
+	private boolean canWritePrimitive(Class<?> type, Object bean) {
+		return primitiveWriter != null && writeMethod.getParameterTypes()[0] == type
+				&& writeMethod.getDeclaringClass().isInstance(bean);
+	}
+
+	private boolean isExactArgument(Object value) {
+		if (value == null) {
+			return !writeMethod.getParameterTypes()[0].isPrimitive();
+		}
+		return writeValueType.isInstance(value);
+	}
+}
@@ -0,0 +1,152 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Reads and writes the value of a single JavaBean property. Obtain one through
+ * {@link PropertyInformation#getAccessor()}.
+ * 
+ * <p>
+ * Accessors behave like invoking the property's read or write method through {@link java.lang.reflect.Method#invoke},
+ * including wrapping any exception thrown by the getter or setter in an InvocationTargetException, but may do so
+ * without reflection overhead.
+ * </p>
+ */
+public interface PropertyAccessor {
+
+	/**
+	 * Invoke the property's read method (getter method) on the specified bean.
+	 * 
+	 * @param bean
+	 *            The bean whose property value should be read.
+	 * 
+	 * @return The value returned by the read method.
+	 * 
+	 * @throws IllegalAccessException
+	 *             If the read method cannot be accessed, or the property is not readable.
+	 * @throws IllegalArgumentException
+	 *             If the bean is not an instance of the type declaring the read method.
+	 * @throws InvocationTargetException
+	 *             If the read method itself throws an exception.
+	 */
+	Object read(Object bean) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException;
+
+	/**
+	 * Invoke the property's write method (setter method) on the specified bean, passing the specified value.
+	 * 
+	 * @param bean
+	 *            The bean whose property value should be written.
+	 * @param value
+	 *            The value to pass to the write method.
+	 * 
+	 * @throws IllegalAccessException
+	 *             If the write method cannot be accessed, or the property is not writable.
+	 * @throws IllegalArgumentException
+	 *             If the bean is not an instance of the type declaring the write method, or the value cannot be passed
+	 *             to it.
+	 * @throws InvocationTargetException
+	 *             If the write method itself throws an exception.
+	 */
+	void write(Object bean, Object value) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException;
+
+	/**
+	 * Invoke the read method of an int property on the specified bean, without boxing the value where possible.
+	 * 
+	 * @see #read(Object)
+	 */
+	default int readInt(Object bean) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		return (Integer) read(bean);
+	}
+
+	/**
+	 * Invoke the write method of an int property on the specified bean, without boxing the value where possible.
+	 * 
+	 * @see #write(Object, Object)
+	 */
+	default void writeInt(Object bean, int value) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		write(bean, value);
+	}
+
+	/**
+	 * Invoke the read method of a long property on the specified bean, without boxing the value where possible.
+	 * 
+	 * @see #read(Object)
+	 */
+	default long readLong(Object bean) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		return (Long) read(bean);
+	}
+
+	/**
+	 * Invoke the write method of a long property on the specified bean, without boxing the value where possible.
+	 * 
+	 * @see #write(Object, Object)
+	 */
+	default void writeLong(Object bean, long value) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		write(bean, value);
+	}
+
+	/**
+	 * Invoke the read method of a double property on the specified bean, without boxing the value where possible.
+	 * 
+	 * @see #read(Object)
+	 */
+	default double readDouble(Object bean) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		return (Double) read(bean);
+	}
+
+	/**
+	 * Invoke the write method of a double property on the specified bean, without boxing the value where possible.
+	 * 
+	 * @see #write(Object, Object)
+	 */
+	default void writeDouble(Object bean, double value) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		write(bean, value);
+	}
+
+	/**
+	 * Invoke the read method of a boolean property on the specified bean, without boxing the value where possible.
+	 * 
+	 * @see #read(Object)
+	 */
+	default boolean readBoolean(Object bean) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		return (Boolean) read(bean);
+	}
+
+	/**
+	 * Invoke the write method of a boolean property on the specified bean, without boxing the value where possible.
+	 * 
+	 * @see #write(Object, Object)
+	 */
+	default void writeBoolean(Object bean, boolean value) throws IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		write(bean, value);
+	}
+}
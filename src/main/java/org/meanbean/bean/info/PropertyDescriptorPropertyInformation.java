@@ -38,6 +38,9 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 	/** The underlying/wrapped PropertyDescriptor. */
 	private final PropertyDescriptor propertyDescriptor;
 
+	/** Accessor for the property, created on first use. */
+	private volatile PropertyAccessor accessor;
+
 	/**
 	 * Construct a new Property Descriptor Property Information based on the specified Property Descriptor.
 	 * 
@@ -151,6 +154,22 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 		return null;
 	}
 
+	/**
+	 * Get an accessor that reads and writes the property through its read and write methods. The accessor is created
+	 * on first use and reused afterwards.
+	 * 
+	 * @return An accessor for the property.
+	 */
+	@Override
+	public PropertyAccessor getAccessor() {
+		PropertyAccessor result = accessor;
+		if (result == null) {
+			result = new MethodHandlePropertyAccessor(name, getReadMethod(), getWriteMethod());
+			accessor = result;
+		}
+		return result;
+	}
+
 	/**
 	 * Get a human-readable String representation of this object.
 	 * 
@@ -99,4 +99,14 @@ public interface PropertyInformation {
 	 *             If the write method takes more than one parameter, or zero parameters.
 	 */
 	Type getWriteMethodParameterType() throws IllegalArgumentException;
+
+	/**
+	 * Get an accessor that reads and writes the property through its read and write methods. Implementations should
+	 * return the same accessor on every call, so that any preparation of the accessor is done only once.
+	 * 
+	 * @return An accessor for the property.
+	 */
+	default PropertyAccessor getAccessor() {
+		return new MethodHandlePropertyAccessor(getName(), getReadMethod(), getWriteMethod());
+	}
 }
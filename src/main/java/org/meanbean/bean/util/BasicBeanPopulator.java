@@ -65,7 +65,7 @@ public class BasicBeanPopulator implements BeanPopulator {
 			String propertyName = property.getName();
 			if (values.containsKey(propertyName)) {
 				try {
-					property.getWriteMethod().invoke(bean, values.get(propertyName));
+					property.getAccessor().write(bean, values.get(propertyName));
 				} catch (Exception e) {
 					String message =
 					        "Failed to populate property [" + propertyName + "] due to Exception ["
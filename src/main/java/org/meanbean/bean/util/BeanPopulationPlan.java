@@ -0,0 +1,238 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.util;
+
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.PropertyAccessor;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.bean.util.PropertyInformationFilter.PropertyVisibility;
+import org.meanbean.factories.BasicNewObjectInstanceFactory;
+import org.meanbean.factories.ObjectCreationException;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.factories.util.PrimitiveFactories;
+import org.meanbean.lang.Factory;
+import org.meanbean.lang.PrimitiveBooleanFactory;
+import org.meanbean.lang.PrimitiveDoubleFactory;
+import org.meanbean.lang.PrimitiveIntFactory;
+import org.meanbean.lang.PrimitiveLongFactory;
+import org.meanbean.util.ValidationHelper;
+
+import java.util.Collection;
+
+/**
+ * Immutable plan for creating and populating instances of a bean. The Factory used to instantiate the bean, the
+ * writable properties and the Factory used to create a value for each of them are resolved once when the plan is
+ * compiled, so that creating a populated bean only has to create values and write them.
+ * 
+ * <p>
+ * Property values are held in arrays indexed like the writable properties, as returned by {@link #createValues()}, so
+ * the same values can be used to populate several logically equivalent beans.
+ * </p>
+ */
+public final class BeanPopulationPlan {
+
+	/** Factory used to instantiate the bean. */
+	private final Factory<Object> instantiator;
+
+	/** The writable properties of the bean, in bean information order. */
+	private final PropertyInformation[] properties;
+
+	/** The Factory used to create a value for each property in properties. */
+	private final Factory<?>[] valueFactories;
+
+	/**
+	 * The primitive type each property can be written with without boxing, or null where the value must be boxed.
+	 */
+	private final Class<?>[] primitiveTypes;
+
+	private BeanPopulationPlan(Factory<Object> instantiator, PropertyInformation[] properties,
+			Factory<?>[] valueFactories) {
+		this.instantiator = instantiator;
+		this.properties = properties;
+		this.valueFactories = valueFactories;
+		this.primitiveTypes = new Class<?>[properties.length];
+		for (int idx = 0; idx < properties.length; idx++) {
+			Class<?> primitiveType = PrimitiveFactories.getPrimitiveType(valueFactories[idx]);
+			if (primitiveType != null && properties[idx].getWriteMethod().getParameterTypes()[0] == primitiveType) {
+				primitiveTypes[idx] = primitiveType;
+			}
+		}
+	}
+
+	/**
+	 * Compile a plan for creating and populating instances of the bean described by beanInformation.
+	 * 
+	 * @param beanInformation
+	 *            Information about the bean to create.
+	 * @param factoryLookupStrategy
+	 *            Provides a means of acquiring a Factory for each writable property.
+	 * 
+	 * @return A plan for creating and populating instances of the bean.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If either parameter is deemed illegal. For example, if either is <code>null</code>.
+	 * @throws ObjectCreationException
+	 *             If a Factory cannot be found for any of the writable properties.
+	 */
+	public static BeanPopulationPlan compile(BeanInformation beanInformation,
+			FactoryLookupStrategy factoryLookupStrategy) throws IllegalArgumentException, ObjectCreationException {
+		ValidationHelper.ensureExists("beanInformation", "populate bean", beanInformation);
+		ValidationHelper.ensureExists("factoryLookupStrategy", "populate bean", factoryLookupStrategy);
+		Collection<PropertyInformation> writableProperties =
+				PropertyInformationFilter.filter(beanInformation.getProperties(), PropertyVisibility.WRITABLE);
+		PropertyInformation[] properties = writableProperties.toArray(new PropertyInformation[0]);
+		Factory<?>[] valueFactories = new Factory<?>[properties.length];
+		for (int idx = 0; idx < properties.length; idx++) {
+			try {
+				valueFactories[idx] = factoryLookupStrategy.getFactory(beanInformation, properties[idx], null);
+			} catch (Exception e) {
+				throw new ObjectCreationException(failedToCreateValueMessage(properties[idx]), e);
+			}
+		}
+		Factory<Object> instantiator = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
+		return new BeanPopulationPlan(instantiator, properties, valueFactories);
+	}
+
+	/**
+	 * Create a new value for each writable property.
+	 * 
+	 * @return The values, indexed like the writable properties.
+	 * 
+	 * @throws ObjectCreationException
+	 *             If an error occurs when creating a value.
+	 */
+	public Object[] createValues() throws ObjectCreationException {
+		Object[] values = new Object[properties.length];
+		for (int idx = 0; idx < properties.length; idx++) {
+			values[idx] = createValue(idx);
+		}
+		return values;
+	}
+
+	/**
+	 * Create a new instance of the bean and populate its writable properties with new values. Primitive properties
+	 * whose Factory creates values of the same primitive type are written without boxing.
+	 * 
+	 * @return A new populated instance of the bean.
+	 * 
+	 * @throws ObjectCreationException
+	 *             If an error occurs when creating a value.
+	 * @throws BeanPopulationException
+	 *             If an error occurs when populating the bean.
+	 */
+	public Object createPopulatedBean() throws ObjectCreationException, BeanPopulationException {
+		Object bean = instantiator.create();
+		for (int idx = 0; idx < properties.length; idx++) {
+			PropertyAccessor accessor = properties[idx].getAccessor();
+			Class<?> primitiveType = primitiveTypes[idx];
+			try {
+				if (primitiveType == int.class) {
+					accessor.writeInt(bean, createIntValue(idx));
+				} else if (primitiveType == long.class) {
+					accessor.writeLong(bean, createLongValue(idx));
+				} else if (primitiveType == double.class) {
+					accessor.writeDouble(bean, createDoubleValue(idx));
+				} else if (primitiveType == boolean.class) {
+					accessor.writeBoolean(bean, createBooleanValue(idx));
+				} else {
+					accessor.write(bean, createValue(idx));
+				}
+			} catch (ObjectCreationException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new BeanPopulationException(failedToPopulateMessage(properties[idx], e), e);
+			}
+		}
+		return bean;
+	}
+
+	/**
+	 * Create a new instance of the bean and populate its writable properties with the specified values.
+	 * 
+	 * @param values
+	 *            The values to populate the bean with, as created by {@link #createValues()}.
+	 * 
+	 * @return A new populated instance of the bean.
+	 * 
+	 * @throws BeanPopulationException
+	 *             If an error occurs when populating the bean.
+	 */
+	public Object createPopulatedBean(Object[] values) throws BeanPopulationException {
+		Object bean = instantiator.create();
+		for (int idx = 0; idx < properties.length; idx++) {
+			try {
+				properties[idx].getAccessor().write(bean, values[idx]);
+			} catch (Exception e) {
+				throw new BeanPopulationException(failedToPopulateMessage(properties[idx], e), e);
+			}
+		}
+		return bean;
+	}
+
+	private Object createValue(int idx) throws ObjectCreationException {
+		try {
+			return valueFactories[idx].create();
+		} catch (Exception e) {
+			throw new ObjectCreationException(failedToCreateValueMessage(properties[idx]), e);
+		}
+	}
+
+	private int createIntValue(int idx) throws ObjectCreationException {
+		try {
+			return ((PrimitiveIntFactory) valueFactories[idx]).createInt();
+		} catch (Exception e) {
+			throw new ObjectCreationException(failedToCreateValueMessage(properties[idx]), e);
+		}
+	}
+
+	private long createLongValue(int idx) throws ObjectCreationException {
+		try {
+			return ((PrimitiveLongFactory) valueFactories[idx]).createLong();
+		} catch (Exception e) {
+			throw new ObjectCreationException(failedToCreateValueMessage(properties[idx]), e);
+		}
+	}
+
+	private double createDoubleValue(int idx) throws ObjectCreationException {
+		try {
+			return ((PrimitiveDoubleFactory) valueFactories[idx]).createDouble();
+		} catch (Exception e) {
+			throw new ObjectCreationException(failedToCreateValueMessage(properties[idx]), e);
+		}
+	}
+
+	private boolean createBooleanValue(int idx) throws ObjectCreationException {
+		try {
+			return ((PrimitiveBooleanFactory) valueFactories[idx]).createBoolean();
+		} catch (Exception e) {
+			throw new ObjectCreationException(failedToCreateValueMessage(properties[idx]), e);
+		}
+	}
+
+	private static String failedToPopulateMessage(PropertyInformation property, Exception e) {
+		return "Failed to populate property [" + property.getName() + "] due to Exception [" + e.getClass().getName()
+				+ "]: [" + e.getMessage() + "].";
+	}
+
+	private static String failedToCreateValueMessage(PropertyInformation property) {
+		return "Failed to create a value for property [" + property.getName() + "].";
+	}
+}
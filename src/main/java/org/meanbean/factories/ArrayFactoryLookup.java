@@ -22,8 +22,13 @@ package org.meanbean.factories;
 
 import org.kohsuke.MetaInfServices;
 import org.meanbean.lang.Factory;
+import org.meanbean.lang.PrimitiveBooleanFactory;
+import org.meanbean.lang.PrimitiveDoubleFactory;
+import org.meanbean.lang.PrimitiveIntFactory;
+import org.meanbean.lang.PrimitiveLongFactory;
 import org.meanbean.util.Order;
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ScopedRandomValueGenerator;
 import org.meanbean.util.Types;
 
 import java.lang.reflect.Array;
@@ -38,7 +43,8 @@ import static org.meanbean.util.Types.getRawType;
 @MetaInfServices
 public class ArrayFactoryLookup implements FactoryLookup {
 
-	private final RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
+	private final RandomValueGenerator randomValueGenerator =
+			new ScopedRandomValueGenerator(RandomValueGenerator.getInstance());
 	private int maxSize = 8;
 
 	public int getMaxSize() {
@@ -65,8 +71,19 @@ public class ArrayFactoryLookup implements FactoryLookup {
 		int length = randomValueGenerator.nextInt(maxSize);
 		Factory<?> componentFactory = getComponentFactory(clazz);
 		Object array = Array.newInstance(clazz.getComponentType(), length);
-		for (int i = 0; i < length; i++) {
-			Array.set(array, i, componentFactory.create());
+		// fill primitive arrays in one call where the component factory supports it
+		if (array instanceof int[] && componentFactory instanceof PrimitiveIntFactory) {
+			((PrimitiveIntFactory) componentFactory).fill((int[]) array);
+		} else if (array instanceof long[] && componentFactory instanceof PrimitiveLongFactory) {
+			((PrimitiveLongFactory) componentFactory).fill((long[]) array);
+		} else if (array instanceof double[] && componentFactory instanceof PrimitiveDoubleFactory) {
+			((PrimitiveDoubleFactory) componentFactory).fill((double[]) array);
+		} else if (array instanceof boolean[] && componentFactory instanceof PrimitiveBooleanFactory) {
+			((PrimitiveBooleanFactory) componentFactory).fill((boolean[]) array);
+		} else {
+			for (int i = 0; i < length; i++) {
+				Array.set(array, i, componentFactory.create());
+			}
 		}
 		return  array;
 	}
@@ -23,8 +23,13 @@ package org.meanbean.factories;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.ValidationHelper;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
 
 /**
  * Concrete Factory that creates instances of the type of object specified during construction of the Factory. Only
@@ -35,6 +40,28 @@ import java.lang.reflect.InvocationTargetException;
  */
 public class BasicNewObjectInstanceFactory implements Factory<Object> {
 
+	/**
+	 * No-arg constructor of each type, resolved once and adapted to ()Object. Empty for abstract types and if the
+	 * constructor cannot be resolved to a handle, in which case instances are created reflectively so the original
+	 * failure is reported.
+	 */
+	private static final ClassValue<Optional<MethodHandle>> CONSTRUCTORS = new ClassValue<Optional<MethodHandle>>() {
+		@Override
+		protected Optional<MethodHandle> computeValue(Class<?> type) {
+			if (Modifier.isAbstract(type.getModifiers())) {
+				return Optional.empty();
+			}
+			try {
+				Constructor<?> declaredConstructor = type.getDeclaredConstructor();
+				declaredConstructor.setAccessible(true);
+				return Optional.of(MethodHandles.lookup().unreflectConstructor(declaredConstructor)
+						.asType(MethodType.methodType(Object.class)));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				return Optional.empty();
+			}
+		}
+	};
+
 	/** The type of Object this Factory should create new instances of. */
 	private final Class<?> clazz;
 
@@ -71,6 +98,15 @@ public class BasicNewObjectInstanceFactory implements Factory<Object> {
 	 */
 	@Override
     public Object create() throws ObjectCreationException {
+		Optional<MethodHandle> constructor = CONSTRUCTORS.get(clazz);
+		if (constructor.isPresent()) {
+			try {
+				return (Object) constructor.get().invokeExact();
+			} catch (Throwable e) {
+				// as Constructor.newInstance would
+				wrapAndRethrowException(new InvocationTargetException(e));
+			}
+		}
 		Object result = null;
 		try {
 			Constructor<?> declaredConstructor = clazz.getDeclaredConstructor();
@@ -24,6 +24,7 @@ import org.kohsuke.MetaInfServices;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.Order;
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ScopedRandomValueGenerator;
 import org.meanbean.util.Types;
 
 import java.lang.reflect.ParameterizedType;
@@ -64,7 +65,8 @@ import static org.meanbean.util.Types.getRawType;
 @MetaInfServices
 public class CollectionFactoryLookup implements FactoryLookup {
 
-	private final RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
+	private final RandomValueGenerator randomValueGenerator =
+			new ScopedRandomValueGenerator(RandomValueGenerator.getInstance());
 
 	private Map<Class<?>, Factory<?>> collectionFactories = buildDefaultCollectionFactories();
 	private int maxSize = 8;
@@ -25,56 +25,71 @@ import org.meanbean.lang.Factory;
 import org.meanbean.util.Order;
 import org.meanbean.util.ServiceDefinition;
 import org.meanbean.util.ServiceFactory;
+import org.meanbean.util.ValidationHelper;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Mutable FactoryCollection that delegates to other FactoryCollection implementations
+ * <p>
+ * Resolved factories, including the absence of a factory, are remembered per type until a factory or factory lookup
+ * is added, or the delegate services change. Factories and factory lookups added in a scope only apply to that scope;
+ * scopes without any additions share a single resolution index.
+ * </p>
  */
 @MetaInfServices
 @Order(1000)
 public class FactoryCollectionRepository implements FactoryCollection {
 
-	private final List<FactoryLookup> factoryLookups = new CopyOnWriteArrayList<>();
-	
+	/** Key of the customisations made in the current scope. */
+	private final Object customisationsKey = new Object();
+
+	/** Resolution index shared by scopes without customisations, or null if it must be rebuilt. */
+	private volatile ResolutionIndex index;
+
 	@Override
 	public void addFactory(Class<?> clazz, Factory<?> factory) throws IllegalArgumentException {
 		factoryCollections().forEach(factoryCollection -> factoryCollection.addFactory(clazz, factory));
+		customisations().index = null;
 	}
 
 	@Override
 	public void addFactoryLookup(FactoryLookup factoryLookup) {
-		factoryLookups.add(0, factoryLookup);
+		Customisations customisations = customisations();
+		customisations.factoryLookups.add(0, factoryLookup);
+		customisations.index = null;
 	}
 
 	@Override
 	public <T> Factory<T> getFactory(Type type) throws IllegalArgumentException, NoSuchFactoryException {
-		Optional<Factory<T>> resultOptional = factoryLookups()
-				.filter(factoryCollection -> factoryCollection.hasFactory(type))
-				.findFirst()
-				.map(factoryCollection -> factoryCollection.getFactory(type));
-
-		if (resultOptional.isPresent()) {
-			return resultOptional.get();
-		}
-
-		throw new NoSuchFactoryException("No factory found for " + type);
+		ValidationHelper.ensureExists("type", "get Factory", type);
+		return currentIndex().getFactory(type);
 	}
 
 	@Override
 	public boolean hasFactory(Type type) throws IllegalArgumentException {
-		return factoryLookups().anyMatch(factoryCollection -> factoryCollection.hasFactory(type));
+		ValidationHelper.ensureExists("type", "check collection for Factory", type);
+		return currentIndex().findLookup(type).isPresent();
 	}
 
 	Stream<FactoryLookup> factoryLookups() {
+		Customisations customisations = ServiceFactory.findScopedState(customisationsKey);
+		return factoryLookups(customisations == null ? Collections.emptyList() : customisations.factoryLookups);
+	}
+
+	private Stream<FactoryLookup> factoryLookups(List<FactoryLookup> scopedFactoryLookups) {
 		Stream<FactoryLookup> lookups = servicesFrom(FactoryLookup.getServiceDefinition());
 		Stream<FactoryLookup> services = Stream.concat(lookups, factoryCollections())
 				.sorted(ServiceFactory.getComparator());
-		return Stream.concat(factoryLookups.stream(), services);
+		return Stream.concat(scopedFactoryLookups.stream(), services);
 	}
 
 	private Stream<FactoryCollection> factoryCollections() {
@@ -88,4 +103,91 @@ public class FactoryCollectionRepository implements FactoryCollection {
 				.filter(factoryCollection -> factoryCollection != this);
 	}
 
+	private Customisations customisations() {
+		return ServiceFactory.getScopedState(customisationsKey, Customisations::new);
+	}
+
+	private ResolutionIndex currentIndex() {
+		List<FactoryLookup> lookupServices = FactoryLookup.getServiceDefinition().getServiceFactory().getAll();
+		List<FactoryCollection> collectionServices = FactoryCollection.getServiceDefinition().getServiceFactory().getAll();
+		Customisations customisations = ServiceFactory.findScopedState(customisationsKey);
+		ResolutionIndex result = customisations == null ? index : customisations.index;
+		if (result == null || !result.isFor(lookupServices, collectionServices)) {
+			List<FactoryLookup> scopedFactoryLookups = customisations == null
+					? Collections.emptyList()
+					: customisations.factoryLookups;
+			result = new ResolutionIndex(lookupServices, collectionServices,
+					factoryLookups(scopedFactoryLookups).collect(Collectors.toList()));
+			if (customisations == null) {
+				index = result;
+			} else {
+				customisations.index = result;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Factory lookups added in a scope, most recent first, and the resolution index that includes them.
+	 */
+	private static final class Customisations {
+
+		private final List<FactoryLookup> factoryLookups = new CopyOnWriteArrayList<>();
+
+		private volatile ResolutionIndex index;
+	}
+
+	/**
+	 * Ordered lookups of one set of delegate services, with the lookup and factory resolved for each type so far.
+	 */
+	private static final class ResolutionIndex {
+
+		private final List<FactoryLookup> lookupServices;
+
+		private final List<FactoryCollection> collectionServices;
+
+		private final List<FactoryLookup> orderedLookups;
+
+		private final Map<Type, Optional<FactoryLookup>> lookupsByType = new ConcurrentHashMap<>();
+
+		private final Map<Type, Factory<?>> factoriesByType = new ConcurrentHashMap<>();
+
+		ResolutionIndex(List<FactoryLookup> lookupServices, List<FactoryCollection> collectionServices,
+				List<FactoryLookup> orderedLookups) {
+			this.lookupServices = lookupServices;
+			this.collectionServices = collectionServices;
+			this.orderedLookups = orderedLookups;
+		}
+
+		boolean isFor(List<FactoryLookup> lookupServices, List<FactoryCollection> collectionServices) {
+			return this.lookupServices == lookupServices && this.collectionServices == collectionServices;
+		}
+
+		Optional<FactoryLookup> findLookup(Type type) {
+			Optional<FactoryLookup> result = lookupsByType.get(type);
+			if (result == null) {
+				// not computeIfAbsent: lookups may resolve nested types through this index
+				result = orderedLookups.stream()
+						.filter(factoryLookup -> factoryLookup.hasFactory(type))
+						.findFirst();
+				lookupsByType.putIfAbsent(type, result);
+			}
+			return result;
+		}
+
+		@SuppressWarnings("unchecked")
+		<T> Factory<T> getFactory(Type type) throws NoSuchFactoryException {
+			Factory<?> result = factoriesByType.get(type);
+			if (result == null) {
+				FactoryLookup factoryLookup = findLookup(type)
+						.orElseThrow(() -> new NoSuchFactoryException("No factory found for " + type));
+				result = factoryLookup.getFactory(type);
+				Factory<?> existing = factoriesByType.putIfAbsent(type, result);
+				if (existing != null) {
+					result = existing;
+				}
+			}
+			return (Factory<T>) result;
+		}
+	}
 }
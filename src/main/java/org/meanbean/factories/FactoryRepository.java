@@ -24,14 +24,21 @@ import org.kohsuke.MetaInfServices;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.Order;
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ScopedRandomValueGenerator;
+import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.ValidationHelper;
 
 import java.lang.reflect.Type;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Concrete collection factories of different types of objects.
+ * <p>
+ * The factories registered by plugins while the repository is constructed are shared by every scope. Factories added
+ * afterwards only apply to the current scope and take precedence over the shared ones.
+ * </p>
  * 
  * @author Graham Williamson
  */
@@ -42,8 +49,18 @@ public final class FactoryRepository implements FactoryCollection {
 	/** A Map of Factory objects */
 	private final Map<Type, Factory<?>> factories = new ConcurrentHashMap<>();
 
-	/** Random number generator used by factories to randomly generate values. */
-	private final RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
+	/** Key of the Factory objects added in the current scope. */
+	private final Object scopedFactoriesKey = new Object();
+
+	/** Whether plugins have finished registering the shared Factory objects. */
+	private volatile boolean initialized;
+
+	/**
+	 * Random number generator used by factories to randomly generate values: the generator bound to the current thread,
+	 * if any, or the default RandomValueGenerator otherwise.
+	 */
+	private final RandomValueGenerator randomValueGenerator =
+			new ScopedRandomValueGenerator(RandomValueGenerator.getInstance());
 
 	public FactoryRepository() throws IllegalArgumentException {
 		initialize();
@@ -64,6 +81,7 @@ public final class FactoryRepository implements FactoryCollection {
 	private void initialize() {
 		FactoryCollectionPlugin.getInstances()
 				.forEach(plugin -> plugin.initialize(this, randomValueGenerator));
+		initialized = true;
 	}
 
 	/**
@@ -89,7 +107,12 @@ public final class FactoryRepository implements FactoryCollection {
 	public void addFactory(Class<?> clazz, Factory<?> factory) throws IllegalArgumentException {
 		ValidationHelper.ensureExists("clazz", "add Factory", clazz);
 		ValidationHelper.ensureExists("factory", "add Factory", factory);
-		factories.put(clazz, factory);
+		if (initialized) {
+			ServiceFactory.<Map<Type, Factory<?>>> getScopedState(scopedFactoriesKey, ConcurrentHashMap::new)
+					.put(clazz, factory);
+		} else {
+			factories.put(clazz, factory);
+		}
 	}
 
 	@Override
@@ -122,7 +145,7 @@ public final class FactoryRepository implements FactoryCollection {
 	public <T> Factory<T> getFactory(Type type) throws IllegalArgumentException, NoSuchFactoryException {
 		ValidationHelper.ensureExists("type", "get Factory", type);
 		@SuppressWarnings("unchecked")
-		Factory<T> factory = (Factory<T>) factories.get(type);
+		Factory<T> factory = (Factory<T>) findFactory(type);
 		if (factory == null) {
             String message = "Failed to find a Factory registered against [" + type + "] in the Repository.";
 			throw new NoSuchFactoryException(message);
@@ -146,11 +169,27 @@ public final class FactoryRepository implements FactoryCollection {
 	@Override
 	public boolean hasFactory(Type type) throws IllegalArgumentException {
 		ValidationHelper.ensureExists("type", "check collection for Factory", type);
-		return factories.containsKey(type);
+		return findFactory(type) != null;
+	}
+
+	private Factory<?> findFactory(Type type) {
+		Map<Type, Factory<?>> scopedFactories = ServiceFactory.findScopedState(scopedFactoriesKey);
+		if (scopedFactories != null) {
+			Factory<?> factory = scopedFactories.get(type);
+			if (factory != null) {
+				return factory;
+			}
+		}
+		return factories.get(type);
 	}
 
 	Map<Type, Factory<?>> getFactories() {
-		return factories;
+		Map<Type, Factory<?>> result = new HashMap<>(factories);
+		Map<Type, Factory<?>> scopedFactories = ServiceFactory.findScopedState(scopedFactoriesKey);
+		if (scopedFactories != null) {
+			result.putAll(scopedFactories);
+		}
+		return result;
 	}
 
 }
@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveBooleanFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class BooleanFactory extends RandomFactoryBase<Boolean> {
+public final class BooleanFactory extends RandomFactoryBase<Boolean> implements PrimitiveBooleanFactory {
 
 	/**
 	 * Construct a new Boolean object factory.
@@ -49,6 +50,27 @@ public final class BooleanFactory extends RandomFactoryBase<Boolean> {
 	 */
 	@Override
 	public Boolean create() {
+		return createBoolean();
+	}
+
+	/**
+	 * Create a new boolean value.
+	 * 
+	 * @return A new boolean value.
+	 */
+	@Override
+	public boolean createBoolean() {
 		return getRandomValueGenerator().nextBoolean();
 	}
+
+	/**
+	 * Fill the specified array with new boolean values, generated in one call to the random value generator.
+	 * 
+	 * @param values
+	 *            The array to fill.
+	 */
+	@Override
+	public void fill(boolean[] values) {
+		getRandomValueGenerator().nextBooleans(values);
+	}
 }
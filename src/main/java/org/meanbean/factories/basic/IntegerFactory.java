@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveIntFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class IntegerFactory extends RandomFactoryBase<Integer> {
+public final class IntegerFactory extends RandomFactoryBase<Integer> implements PrimitiveIntFactory {
 
 	/**
 	 * Construct a new Integer object factory.
@@ -49,6 +50,27 @@ public final class IntegerFactory extends RandomFactoryBase<Integer> {
 	 */
 	@Override
 	public Integer create() {
+		return createInt();
+	}
+
+	/**
+	 * Create a new int value.
+	 * 
+	 * @return A new int value.
+	 */
+	@Override
+	public int createInt() {
 		return getRandomValueGenerator().nextInt();
 	}
+
+	/**
+	 * Fill the specified array with new int values, generated in one call to the random value generator.
+	 * 
+	 * @param values
+	 *            The array to fill.
+	 */
+	@Override
+	public void fill(int[] values) {
+		getRandomValueGenerator().nextInts(values);
+	}
 }
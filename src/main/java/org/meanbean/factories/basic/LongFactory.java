@@ -20,6 +20,7 @@
 
 package org.meanbean.factories.basic;
 
+import org.meanbean.lang.PrimitiveLongFactory;
 import org.meanbean.util.RandomValueGenerator;
 
 /**
@@ -27,7 +28,7 @@ import org.meanbean.util.RandomValueGenerator;
  * 
  * @author Graham Williamson
  */
-public final class LongFactory extends RandomFactoryBase<Long> {
+public final class LongFactory extends RandomFactoryBase<Long> implements PrimitiveLongFactory {
 
 	/**
 	 * Construct a new Long object factory.
@@ -49,6 +50,27 @@ public final class LongFactory extends RandomFactoryBase<Long> {
 	 */
 	@Override
 	public Long create() {
+		return createLong();
+	}
+
+	/**
+	 * Create a new long value.
+	 * 
+	 * @return A new long value.
+	 */
+	@Override
+	public long createLong() {
 		return getRandomValueGenerator().nextLong();
 	}
+
+	/**
+	 * Fill the specified array with new long values, generated in one call to the random value generator.
+	 * 
+	 * @param values
+	 *            The array to fill.
+	 */
+	@Override
+	public void fill(long[] values) {
+		getRandomValueGenerator().nextLongs(values);
+	}
 }
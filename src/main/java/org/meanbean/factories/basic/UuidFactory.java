@@ -0,0 +1,61 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.basic;
+
+import org.meanbean.util.RandomValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Concrete Factory that creates random version 4 UUID objects. Unlike {@link UUID#randomUUID()}, the bits are taken
+ * from the random value generator rather than from a shared SecureRandom, so creating UUIDs never blocks and is
+ * repeatable when the generator is seeded.
+ */
+public final class UuidFactory extends RandomFactoryBase<UUID> {
+
+	/**
+	 * Construct a new UUID object factory.
+	 * 
+	 * @param randomValueGenerator
+	 *            A random value generator used by the Factory to generate random values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the specified randomValueGenerator is deemed illegal. For example, if it is null.
+	 */
+	public UuidFactory(RandomValueGenerator randomValueGenerator) throws IllegalArgumentException {
+		super(randomValueGenerator);
+	}
+
+	/**
+	 * Create a new UUID object.
+	 * 
+	 * @return A new random (version 4, IETF variant) UUID object.
+	 */
+	@Override
+	public UUID create() {
+		long mostSigBits = getRandomValueGenerator().nextLong();
+		long leastSigBits = getRandomValueGenerator().nextLong();
+		// set the version to 4 and the variant to IETF, as UUID.randomUUID() does
+		mostSigBits = (mostSigBits & ~0xF000L) | 0x4000L;
+		leastSigBits = (leastSigBits & ~(0xC000000000000000L)) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+}
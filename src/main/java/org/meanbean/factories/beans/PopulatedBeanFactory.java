@@ -21,16 +21,11 @@
 package org.meanbean.factories.beans;
 
 import org.meanbean.bean.info.BeanInformation;
-import org.meanbean.bean.util.BasicBeanPopulator;
-import org.meanbean.bean.util.BeanPopulator;
-import org.meanbean.bean.util.BeanPropertyValuesFactory;
-import org.meanbean.factories.BasicNewObjectInstanceFactory;
+import org.meanbean.bean.util.BeanPopulationPlan;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.ValidationHelper;
 
-import java.util.Map;
-
 /**
  * Factory that creates object instances based on provided BeanInformation, assigning each instance different values.
  * 
@@ -41,11 +36,11 @@ public class PopulatedBeanFactory implements Factory<Object> {
 	/** The BeanInformation that should be used to create instances of a bean. */
 	private final BeanInformation beanInformation;
 
-	/** Creates values that can be used to populate the properties of a Bean. */
-	private final BeanPropertyValuesFactory beanPropertyValuesFactory;
+	/** Provides a means of acquiring Factories for the property values of new instances. */
+	private final FactoryLookupStrategy factoryLookupStrategy;
 
-	/** Affords functionality to populate a bean (set its fields) with specified values. */
-	private final BeanPopulator beanPopulator = new BasicBeanPopulator();
+	/** Plan used to instantiate and populate the bean, compiled on first use. */
+	private BeanPopulationPlan populationPlan;
 
 	/**
 	 * Construct a new Factory that creates object instances based on provided BeanInformation, assigning each instance
@@ -65,7 +60,7 @@ public class PopulatedBeanFactory implements Factory<Object> {
 		ValidationHelper.ensureExists("beanInformation", "construct Factory", beanInformation);
 		ValidationHelper.ensureExists("factoryLookupStrategy", "construct Factory", factoryLookupStrategy);
 		this.beanInformation = beanInformation;
-		beanPropertyValuesFactory = new BeanPropertyValuesFactory(beanInformation, factoryLookupStrategy);
+		this.factoryLookupStrategy = factoryLookupStrategy;
 	}
 
 	/**
@@ -76,10 +71,11 @@ public class PopulatedBeanFactory implements Factory<Object> {
 	 */
 	@Override
     public Object create() throws BeanCreationException {
-		Map<String, Object> propertyValues = beanPropertyValuesFactory.create();
-		Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
-		Object result = beanFactory.create();
-		beanPopulator.populate(result, beanInformation, propertyValues);
-		return result;
+		BeanPopulationPlan plan = populationPlan;
+		if (plan == null) {
+			plan = BeanPopulationPlan.compile(beanInformation, factoryLookupStrategy);
+			populationPlan = plan;
+		}
+		return plan.createPopulatedBean();
 	}
 }
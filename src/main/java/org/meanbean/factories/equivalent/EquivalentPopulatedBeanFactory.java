@@ -21,18 +21,12 @@
 package org.meanbean.factories.equivalent;
 
 import org.meanbean.bean.info.BeanInformation;
-import org.meanbean.bean.util.BasicBeanPopulator;
-import org.meanbean.bean.util.BeanPopulator;
-import org.meanbean.bean.util.BeanPropertyValuesFactory;
-import org.meanbean.factories.BasicNewObjectInstanceFactory;
+import org.meanbean.bean.util.BeanPopulationPlan;
 import org.meanbean.factories.beans.BeanCreationException;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.EquivalentFactory;
-import org.meanbean.lang.Factory;
 import org.meanbean.util.ValidationHelper;
 
-import java.util.Map;
-
 /**
  * Factory that creates object instances based on provided BeanInformation, assigning every instance the same field
  * values.
@@ -44,14 +38,14 @@ public class EquivalentPopulatedBeanFactory implements EquivalentFactory<Object>
 	/** The BeanInformation that should be used to create instances of a bean. */
 	private final BeanInformation beanInformation;
 
-	/** The values every object instance created by this Factory should have. */
-	private Map<String, Object> propertyValues;
+	/** Provides a means of acquiring Factories for the property values of new instances. */
+	private final FactoryLookupStrategy factoryLookupStrategy;
 
-	/** Creates values that can be used to populate the properties of a Bean. */
-	private final BeanPropertyValuesFactory beanPropertyValuesFactory;
+	/** Plan used to instantiate and populate the bean, compiled on first use. */
+	private BeanPopulationPlan populationPlan;
 
-	/** Affords functionality to populate a bean (set its fields) with specified values. */
-	private final BeanPopulator beanPopulator = new BasicBeanPopulator();
+	/** The values every object instance created by this Factory should have, indexed like the plan's properties. */
+	private Object[] propertyValues;
 
 	/**
 	 * Construct a new Factory that creates object instances based on provided BeanInformation, assigning every instance
@@ -71,7 +65,7 @@ public class EquivalentPopulatedBeanFactory implements EquivalentFactory<Object>
 		ValidationHelper.ensureExists("beanInformation", "construct Factory", beanInformation);
 		ValidationHelper.ensureExists("factoryLookupStrategy", "construct Factory", factoryLookupStrategy);
 		this.beanInformation = beanInformation;
-		beanPropertyValuesFactory = new BeanPropertyValuesFactory(beanInformation, factoryLookupStrategy);
+		this.factoryLookupStrategy = factoryLookupStrategy;
 	}
 
 	/**
@@ -83,12 +77,10 @@ public class EquivalentPopulatedBeanFactory implements EquivalentFactory<Object>
 	 */
 	@Override
     public Object create() throws BeanCreationException {
-		if (propertyValues == null) {
-			propertyValues = beanPropertyValuesFactory.create();
+		if (populationPlan == null) {
+			populationPlan = BeanPopulationPlan.compile(beanInformation, factoryLookupStrategy);
+			propertyValues = populationPlan.createValues();
 		}
-		Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
-		Object result = beanFactory.create();
-		beanPopulator.populate(result, beanInformation, propertyValues);
-		return result;
+		return populationPlan.createPopulatedBean(propertyValues);
 	}
 }
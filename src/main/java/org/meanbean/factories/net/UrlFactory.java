@@ -21,6 +21,7 @@
 package org.meanbean.factories.net;
 
 import org.meanbean.factories.basic.RandomFactoryBase;
+import org.meanbean.factories.basic.UuidFactory;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.RandomValueSampler;
 
@@ -28,7 +29,6 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -36,6 +36,8 @@ public class UrlFactory extends RandomFactoryBase<URL> {
 
 	private RandomValueSampler sampler;
 
+	private UuidFactory uuidFactory;
+
 	private List<String> schemes = Arrays.asList("http://", "https://", "ftp://");
 	private List<String> tlds = Arrays.asList(".example", ".invalid", ".test");
 	private List<String> paths = Arrays.asList("", "/foo", "/foo/bar/", "/foo/bar/index?a=b");
@@ -43,6 +45,7 @@ public class UrlFactory extends RandomFactoryBase<URL> {
 	public UrlFactory(RandomValueGenerator randomValueGenerator) {
 		super(randomValueGenerator);
 		this.sampler = new RandomValueSampler(randomValueGenerator);
+		this.uuidFactory = new UuidFactory(randomValueGenerator);
 	}
 
 	@Override
@@ -62,7 +65,7 @@ public class UrlFactory extends RandomFactoryBase<URL> {
 	protected String getRandomDomain() {
 		int subdomainCount = getRandomValueGenerator().nextInt(1) + 1;
 		return IntStream.range(0, subdomainCount)
-				.mapToObj(num -> UUID.randomUUID().toString())
+				.mapToObj(num -> uuidFactory.create().toString())
 				.collect(Collectors.joining("."));
 	}
 
@@ -22,11 +22,12 @@ package org.meanbean.factories.time;
 
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.RandomValueSampler;
+import org.meanbean.util.SamplingTables;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
-import java.util.Set;
+import java.util.List;
 
 public class RandomClock extends Clock {
 
@@ -40,10 +41,10 @@ public class RandomClock extends Clock {
 
 	@Override
 	public ZoneId getZone() {
-		Set<String> availableZoneIds = ZoneId.getAvailableZoneIds();
-		return randomValueSampler.findFrom(availableZoneIds)
-				.map(ZoneId::of)
-				.orElse(ZoneId.systemDefault());
+		List<ZoneId> availableZoneIds = SamplingTables.availableZoneIds();
+		return availableZoneIds.isEmpty()
+				? ZoneId.systemDefault()
+				: randomValueSampler.getFrom(availableZoneIds);
 	}
 
 	@Override
@@ -28,6 +28,7 @@ import org.meanbean.lang.Factory;
 import org.meanbean.test.BeanTestException;
 import org.meanbean.test.Configuration;
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ScopedRandomValueGenerator;
 import org.meanbean.util.ServiceDefinition;
 
 /**
@@ -69,7 +70,8 @@ public interface FactoryLookupStrategy {
 	public static ServiceDefinition<FactoryLookupStrategy> getServiceDefinition() {
 		return new ServiceDefinition<>(FactoryLookupStrategy.class,
 				new Class<?>[] { FactoryCollection.class, RandomValueGenerator.class },
-				new Object[] { FactoryCollection.getInstance(), RandomValueGenerator.getInstance() });
+				new Object[] { FactoryCollection.getInstance(),
+						new ScopedRandomValueGenerator(RandomValueGenerator.getInstance()) });
 	}
 
 	public static FactoryLookupStrategy getInstance() {
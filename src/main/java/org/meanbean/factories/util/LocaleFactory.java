@@ -26,21 +26,21 @@ import org.meanbean.factories.FactoryCollectionPlugin;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.RandomValueSampler;
+import org.meanbean.util.SamplingTables;
+import org.meanbean.util.ScopedRandomValueGenerator;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Locale;
 
 @MetaInfServices(FactoryCollectionPlugin.class)
 public class LocaleFactory implements Factory<Locale>, FactoryCollectionPlugin {
 
-	private RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
+	private RandomValueGenerator randomValueGenerator =
+			new ScopedRandomValueGenerator(RandomValueGenerator.getInstance());
 	private RandomValueSampler randomValueSampler = new RandomValueSampler(randomValueGenerator);
 
 	@Override
 	public Locale create() {
-		List<Locale> locales = Arrays.asList(Locale.getAvailableLocales());
-		return randomValueSampler.getFrom(locales);
+		return randomValueSampler.getFrom(SamplingTables.availableLocales());
 	}
 
 	@Override
@@ -0,0 +1,61 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.util;
+
+import org.meanbean.lang.Factory;
+import org.meanbean.lang.PrimitiveBooleanFactory;
+import org.meanbean.lang.PrimitiveDoubleFactory;
+import org.meanbean.lang.PrimitiveIntFactory;
+import org.meanbean.lang.PrimitiveLongFactory;
+
+/**
+ * Utility methods for Factories that create primitive values without boxing them.
+ */
+public final class PrimitiveFactories {
+
+	private PrimitiveFactories() {
+	}
+
+	/**
+	 * Get the primitive type the specified Factory can create without boxing.
+	 * 
+	 * @param factory
+	 *            The Factory to inspect.
+	 * 
+	 * @return <code>int.class</code>, <code>long.class</code>, <code>double.class</code> or <code>boolean.class</code>
+	 *         if the Factory is the matching primitive-specialised Factory; <code>null</code> otherwise.
+	 */
+	public static Class<?> getPrimitiveType(Factory<?> factory) {
+		if (factory instanceof PrimitiveIntFactory) {
+			return int.class;
+		}
+		if (factory instanceof PrimitiveLongFactory) {
+			return long.class;
+		}
+		if (factory instanceof PrimitiveDoubleFactory) {
+			return double.class;
+		}
+		if (factory instanceof PrimitiveBooleanFactory) {
+			return boolean.class;
+		}
+		return null;
+	}
+}
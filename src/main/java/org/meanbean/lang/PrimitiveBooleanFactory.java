@@ -0,0 +1,57 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.lang;
+
+/**
+ * Factory that creates primitive boolean values without boxing them. Callers that can use a boolean directly should call
+ * {@link #createBoolean()}.
+ */
+public interface PrimitiveBooleanFactory extends Factory<Boolean> {
+
+	/**
+	 * Create a new boolean value.
+	 * 
+	 * @return A new boolean value.
+	 */
+	boolean createBoolean();
+
+	/**
+	 * Create a new boolean value, boxed.
+	 * 
+	 * @return A new Boolean object.
+	 */
+	@Override
+	default Boolean create() {
+		return createBoolean();
+	}
+
+	/**
+	 * Fill the specified array with new boolean values, one per element.
+	 * 
+	 * @param values
+	 *            The array to fill.
+	 */
+	default void fill(boolean[] values) {
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = createBoolean();
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.lang;
+
+/**
+ * Factory that creates primitive double values without boxing them. Callers that can use a double directly should call
+ * {@link #createDouble()}.
+ */
+public interface PrimitiveDoubleFactory extends Factory<Double> {
+
+	/**
+	 * Create a new double value.
+	 * 
+	 * @return A new double value.
+	 */
+	double createDouble();
+
+	/**
+	 * Create a new double value, boxed.
+	 * 
+	 * @return A new Double object.
+	 */
+	@Override
+	default Double create() {
+		return createDouble();
+	}
+
+	/**
+	 * Fill the specified array with new double values, one per element.
+	 * 
+	 * @param values
+	 *            The array to fill.
+	 */
+	default void fill(double[] values) {
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = createDouble();
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.lang;
+
+/**
+ * Factory that creates primitive long values without boxing them. Callers that can use a long directly should call
+ * {@link #createLong()}.
+ */
+public interface PrimitiveLongFactory extends Factory<Long> {
+
+	/**
+	 * Create a new long value.
+	 * 
+	 * @return A new long value.
+	 */
+	long createLong();
+
+	/**
+	 * Create a new long value, boxed.
+	 * 
+	 * @return A new Long object.
+	 */
+	@Override
+	default Long create() {
+		return createLong();
+	}
+
+	/**
+	 * Fill the specified array with new long values, one per element.
+	 * 
+	 * @param values
+	 *            The array to fill.
+	 */
+	default void fill(long[] values) {
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = createLong();
+		}
+	}
+}
@@ -20,6 +20,7 @@
 
 package org.meanbean.test;
 
+import org.meanbean.bean.info.PropertyAccessor;
 import org.meanbean.bean.info.PropertyInformation;
 import org.meanbean.logging.$Logger;
 import org.meanbean.logging.$LoggerFactory;
@@ -86,8 +87,9 @@ public class BeanPropertyTester {
 			throw new IllegalArgumentException(msg);
 		}
 		try {
-			property.getWriteMethod().invoke(bean, testValue);
-			Object readMethodOutput = property.getReadMethod().invoke(bean);
+			PropertyAccessor accessor = property.getAccessor();
+			accessor.write(bean, testValue);
+			Object readMethodOutput = accessor.read(bean);
 			
 			UrlEqualityTestWarning.ifNeeded(equalityTest, bean, propertyName, testValue);
 			UrlEqualityTestWarning.ifNeeded(equalityTest, bean, propertyName, readMethodOutput);
@@ -102,6 +104,163 @@ public class BeanPropertyTester {
 		}
     }
 
+	/**
+	 * Test an int property in the same way as {@link #testProperty(Object, PropertyInformation, Object, EqualityTest)}
+	 * with a logical equality test, but without boxing the test value or the value returned by the getter. The
+	 * property's getter and setter must both use int.
+	 * 
+	 * @param bean
+	 *            The object the property should be tested on.
+	 * @param property
+	 *            Information about the property to be tested.
+	 * @param testValue
+	 *            The value to use when testing the property.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If any of the parameters are deemed illegal. For example, if any are <code>null</code>, or if the
+	 *             property is not readable and writable.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 * @throws BeanTestException
+	 *             If an unexpected exception occurs during testing.
+	 */
+	public void testIntProperty(Object bean, PropertyInformation property, int testValue)
+	        throws IllegalArgumentException, AssertionError, BeanTestException {
+		ensureTestable(bean, property);
+		try {
+			PropertyAccessor accessor = property.getAccessor();
+			accessor.writeInt(bean, testValue);
+			int readMethodOutput = accessor.readInt(bean);
+			if (!(testValue == readMethodOutput)) {
+				failGetterDidNotReturnTestValue(property, testValue, readMethodOutput);
+			}
+		} catch (Exception e) {
+			throw throwException(property, e);
+		}
+	}
+
+	/**
+	 * Test a long property in the same way as {@link #testProperty(Object, PropertyInformation, Object, EqualityTest)}
+	 * with a logical equality test, but without boxing the test value or the value returned by the getter. The
+	 * property's getter and setter must both use long.
+	 * 
+	 * @param bean
+	 *            The object the property should be tested on.
+	 * @param property
+	 *            Information about the property to be tested.
+	 * @param testValue
+	 *            The value to use when testing the property.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If any of the parameters are deemed illegal. For example, if any are <code>null</code>, or if the
+	 *             property is not readable and writable.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 * @throws BeanTestException
+	 *             If an unexpected exception occurs during testing.
+	 */
+	public void testLongProperty(Object bean, PropertyInformation property, long testValue)
+	        throws IllegalArgumentException, AssertionError, BeanTestException {
+		ensureTestable(bean, property);
+		try {
+			PropertyAccessor accessor = property.getAccessor();
+			accessor.writeLong(bean, testValue);
+			long readMethodOutput = accessor.readLong(bean);
+			if (!(testValue == readMethodOutput)) {
+				failGetterDidNotReturnTestValue(property, testValue, readMethodOutput);
+			}
+		} catch (Exception e) {
+			throw throwException(property, e);
+		}
+	}
+
+	/**
+	 * Test a double property in the same way as {@link #testProperty(Object, PropertyInformation, Object, EqualityTest)}
+	 * with a logical equality test, but without boxing the test value or the value returned by the getter. The
+	 * property's getter and setter must both use double. The values are compared bit for bit, as
+	 * {@link Double#equals(Object)} compares them.
+	 * 
+	 * @param bean
+	 *            The object the property should be tested on.
+	 * @param property
+	 *            Information about the property to be tested.
+	 * @param testValue
+	 *            The value to use when testing the property.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If any of the parameters are deemed illegal. For example, if any are <code>null</code>, or if the
+	 *             property is not readable and writable.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 * @throws BeanTestException
+	 *             If an unexpected exception occurs during testing.
+	 */
+	public void testDoubleProperty(Object bean, PropertyInformation property, double testValue)
+	        throws IllegalArgumentException, AssertionError, BeanTestException {
+		ensureTestable(bean, property);
+		try {
+			PropertyAccessor accessor = property.getAccessor();
+			accessor.writeDouble(bean, testValue);
+			double readMethodOutput = accessor.readDouble(bean);
+			if (!(Double.doubleToLongBits(testValue) == Double.doubleToLongBits(readMethodOutput))) {
+				failGetterDidNotReturnTestValue(property, testValue, readMethodOutput);
+			}
+		} catch (Exception e) {
+			throw throwException(property, e);
+		}
+	}
+
+	/**
+	 * Test a boolean property in the same way as {@link #testProperty(Object, PropertyInformation, Object, EqualityTest)}
+	 * with a logical equality test, but without boxing the test value or the value returned by the getter. The
+	 * property's getter and setter must both use boolean.
+	 * 
+	 * @param bean
+	 *            The object the property should be tested on.
+	 * @param property
+	 *            Information about the property to be tested.
+	 * @param testValue
+	 *            The value to use when testing the property.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If any of the parameters are deemed illegal. For example, if any are <code>null</code>, or if the
+	 *             property is not readable and writable.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 * @throws BeanTestException
+	 *             If an unexpected exception occurs during testing.
+	 */
+	public void testBooleanProperty(Object bean, PropertyInformation property, boolean testValue)
+	        throws IllegalArgumentException, AssertionError, BeanTestException {
+		ensureTestable(bean, property);
+		try {
+			PropertyAccessor accessor = property.getAccessor();
+			accessor.writeBoolean(bean, testValue);
+			boolean readMethodOutput = accessor.readBoolean(bean);
+			if (!(testValue == readMethodOutput)) {
+				failGetterDidNotReturnTestValue(property, testValue, readMethodOutput);
+			}
+		} catch (Exception e) {
+			throw throwException(property, e);
+		}
+	}
+
+	private static void ensureTestable(Object bean, PropertyInformation property) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("bean", "test property", bean);
+		ValidationHelper.ensureExists("property", "test property", property);
+		if (!property.isReadableWritable()) {
+			throw new IllegalArgumentException("Cannot test property [" + property.getName()
+			        + "] - property must be readable and writable.");
+		}
+	}
+
+	private static void failGetterDidNotReturnTestValue(PropertyInformation property, Object testValue,
+	        Object readMethodOutput) throws AssertionError {
+		String message = "Property [" + property.getName() + "] getter did not return test value. Expected ["
+		        + testValue + "] but getter returned [" + readMethodOutput + "].";
+		AssertionUtils.fail(message);
+	}
+
     static BeanTestException throwException(PropertyInformation property, Exception e) {
         String propertyName = property.getName();
         String message = "Failed to test property [" + propertyName + "] due to Exception [" + e.getClass().getName()
@@ -0,0 +1,216 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.bean.util.PropertyInformationFilter;
+import org.meanbean.factories.BasicNewObjectInstanceFactory;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.factories.util.PrimitiveFactories;
+import org.meanbean.lang.Factory;
+import org.meanbean.lang.PrimitiveBooleanFactory;
+import org.meanbean.lang.PrimitiveDoubleFactory;
+import org.meanbean.lang.PrimitiveIntFactory;
+import org.meanbean.lang.PrimitiveLongFactory;
+import org.meanbean.test.internal.EqualityTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable plan for testing the getters and setters of a bean type with a given Configuration. Property filtering,
+ * value Factory lookup and equality test selection are done once when the plan is compiled, so that each test
+ * iteration only has to create values and exercise the bean. Plans are compiled by {@link BeanTester}, which passes
+ * them to {@link BeanTester#testBean(BeanTestPlan, Configuration, long, int)} for every test iteration.
+ */
+public final class BeanTestPlan {
+
+	/** Information about the bean type under test. */
+	private final BeanInformation beanInformation;
+
+	/** Factory used to instantiate the bean under test. */
+	private final Factory<Object> beanFactory;
+
+	/** The readable and writable properties that are not ignored, in bean information order. */
+	private final List<PropertyInformation> properties;
+
+	/** Test details for each property in properties. */
+	private final Map<PropertyInformation, PropertyTest> propertyTests;
+
+	private BeanTestPlan(BeanInformation beanInformation, Factory<Object> beanFactory,
+			List<PropertyInformation> properties, Map<PropertyInformation, PropertyTest> propertyTests) {
+		this.beanInformation = beanInformation;
+		this.beanFactory = beanFactory;
+		this.properties = Collections.unmodifiableList(properties);
+		this.propertyTests = propertyTests;
+	}
+
+	/**
+	 * Compile a plan for testing the bean described by beanInformation with the specified Configuration.
+	 * 
+	 * @param beanInformation
+	 *            Information about the type to be tested.
+	 * @param configuration
+	 *            The custom Configuration to be used. May be <code>null</code>.
+	 * @param factoryLookupStrategy
+	 *            Provides a means of acquiring a Factory for each property.
+	 * 
+	 * @return A plan that can be used for every test iteration of the bean.
+	 * 
+	 * @throws BeanTestException
+	 *             If a Factory cannot be found for any of the tested properties.
+	 */
+	static BeanTestPlan compile(BeanInformation beanInformation, Configuration configuration,
+			FactoryLookupStrategy factoryLookupStrategy) throws BeanTestException {
+		// Get just the properties of the bean that are readable and writable
+		// Skip testing any 'ignored' properties
+		List<PropertyInformation> properties = PropertyInformationFilter.filter(beanInformation.getProperties(),
+				configuration);
+		Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
+
+		Map<PropertyInformation, PropertyTest> propertyTests = new IdentityHashMap<>();
+		for (PropertyInformation property : properties) {
+			Factory<?> valueFactory;
+			try {
+				valueFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
+			} catch (Exception e) {
+				throw new BeanTestException(failedToCreateValueMessage(beanInformation, property), e);
+			}
+			EqualityTest equalityTest = valueFactory instanceof BasicNewObjectInstanceFactory
+					? EqualityTest.ABSOLUTE
+					: EqualityTest.LOGICAL;
+			propertyTests.put(property,
+					new PropertyTest(valueFactory, equalityTest, primitiveType(property, valueFactory)));
+		}
+		return new BeanTestPlan(beanInformation, beanFactory, properties, propertyTests);
+	}
+
+	/**
+	 * Get the primitive type the property can be tested with without boxing: the type the value Factory creates
+	 * unboxed, if both the getter and the setter use it.
+	 */
+	private static Class<?> primitiveType(PropertyInformation property, Factory<?> valueFactory) {
+		Class<?> primitiveType = PrimitiveFactories.getPrimitiveType(valueFactory);
+		if (primitiveType == null || property.getReadMethod() == null || property.getWriteMethod() == null) {
+			return null;
+		}
+		boolean getterMatches = property.getReadMethod().getReturnType() == primitiveType;
+		boolean setterMatches = property.getWriteMethod().getParameterTypes()[0] == primitiveType;
+		return getterMatches && setterMatches ? primitiveType : null;
+	}
+
+	static String failedToCreateValueMessage(BeanInformation beanInformation, PropertyInformation property) {
+		return "Cannot test bean [" + beanInformation.getBeanClass().getName()
+				+ "]. Failed to instantiate a test value for property [" + property.getName() + "].";
+	}
+
+	/**
+	 * @return Information about the bean type under test.
+	 */
+	public BeanInformation getBeanInformation() {
+		return beanInformation;
+	}
+
+	Factory<Object> getBeanFactory() {
+		return beanFactory;
+	}
+
+	/**
+	 * @return A new mutable copy of the properties to be tested, which callers are free to reorder.
+	 */
+	List<PropertyInformation> copyProperties() {
+		return new ArrayList<>(properties);
+	}
+
+	Factory<?> getValueFactory(PropertyInformation property) {
+		return propertyTests.get(property).valueFactory;
+	}
+
+	EqualityTest getEqualityTest(PropertyInformation property) {
+		return propertyTests.get(property).equalityTest;
+	}
+
+	/**
+	 * @return The primitive type the property can be tested with without boxing, or null if its test values must be
+	 *         boxed.
+	 */
+	Class<?> getPrimitiveType(PropertyInformation property) {
+		return propertyTests.get(property).primitiveType;
+	}
+
+	/**
+	 * Create a test value for a property whose primitive type is int, without boxing it. Likewise for the other
+	 * primitive types below.
+	 */
+	int createIntValue(PropertyInformation property) throws BeanTestException {
+		try {
+			return ((PrimitiveIntFactory) getValueFactory(property)).createInt();
+		} catch (Exception e) {
+			throw new BeanTestException(failedToCreateValueMessage(beanInformation, property), e);
+		}
+	}
+
+	long createLongValue(PropertyInformation property) throws BeanTestException {
+		try {
+			return ((PrimitiveLongFactory) getValueFactory(property)).createLong();
+		} catch (Exception e) {
+			throw new BeanTestException(failedToCreateValueMessage(beanInformation, property), e);
+		}
+	}
+
+	double createDoubleValue(PropertyInformation property) throws BeanTestException {
+		try {
+			return ((PrimitiveDoubleFactory) getValueFactory(property)).createDouble();
+		} catch (Exception e) {
+			throw new BeanTestException(failedToCreateValueMessage(beanInformation, property), e);
+		}
+	}
+
+	boolean createBooleanValue(PropertyInformation property) throws BeanTestException {
+		try {
+			return ((PrimitiveBooleanFactory) getValueFactory(property)).createBoolean();
+		} catch (Exception e) {
+			throw new BeanTestException(failedToCreateValueMessage(beanInformation, property), e);
+		}
+	}
+
+	/**
+	 * The resolved value Factory, equality test and primitive type of a single property.
+	 */
+	private static final class PropertyTest {
+
+		private final Factory<?> valueFactory;
+
+		private final EqualityTest equalityTest;
+
+		private final Class<?> primitiveType;
+
+		PropertyTest(Factory<?> valueFactory, EqualityTest equalityTest, Class<?> primitiveType) {
+			this.valueFactory = valueFactory;
+			this.equalityTest = equalityTest;
+			this.primitiveType = primitiveType;
+		}
+	}
+}
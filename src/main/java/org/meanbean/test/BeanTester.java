@@ -23,22 +23,28 @@ package org.meanbean.test;
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.PropertyInformation;
-import org.meanbean.bean.util.PropertyInformationFilter;
-import org.meanbean.factories.BasicNewObjectInstanceFactory;
 import org.meanbean.factories.FactoryCollection;
 import org.meanbean.factories.util.FactoryLookupStrategy;
-import org.meanbean.lang.Factory;
 import org.meanbean.test.internal.EqualityTest;
 import org.meanbean.test.internal.NoopSideEffectDetector;
 import org.meanbean.test.internal.SideEffectDetector;
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ScopedRandomValueGenerator;
 import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.ServiceLoader;
+import org.meanbean.util.SplittableRandomValueGenerator;
 import org.meanbean.util.ValidationHelper;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * <p>
@@ -129,6 +135,12 @@ public class BeanTester {
 	/** Random number generator used by factories to randomly generate values. */
 	private final RandomValueGenerator randomValueGenerator;
 
+	/**
+	 * The default random number generator, seeded alongside randomValueGenerator for code that draws from it directly
+	 * rather than from the generator bound to each iteration.
+	 */
+	private final RandomValueGenerator serviceRandomValueGenerator;
+
 	/** The collection of test data Factories. */
 	private final FactoryCollection factoryCollection;
 
@@ -146,6 +158,18 @@ public class BeanTester {
 	/** Object that tests the getters and setters of a Bean's property. */
 	private final BeanPropertyTester beanPropertyTester;
 
+	/** The number of worker threads the iterations of a single bean are spread across. */
+	private final int iterationParallelism;
+
+	/**
+	 * Whether primitive properties are tested without boxing. Only done with the standard BeanPropertyTester, as a
+	 * subclass may override testProperty, which every property must then go through.
+	 */
+	private final boolean primitiveFastPath;
+
+	/** Creates a new SideEffectDetector for each test iteration. */
+	private final Supplier<SideEffectDetector> sideEffectDetectorSupplier;
+
 	/**
 	 * Prefer {@link BeanVerifier} or {@link BeanTesterBuilder#newBeanTester()}
 	 */
@@ -156,19 +180,28 @@ public class BeanTester {
 				BeanInformationFactory.getInstance(),
 				new BeanPropertyTester(),
 				new ConcurrentHashMap<>(),
-				Configuration.defaultConfiguration());
+				Configuration.defaultConfiguration(),
+				1);
 	}
 
 	BeanTester(RandomValueGenerator randomValueGenerator, FactoryCollection factoryCollection,
 			FactoryLookupStrategy factoryLookupStrategy, BeanInformationFactory beanInformationFactory,
-			BeanPropertyTester beanPropertyTester, Map<Class<?>, Configuration> configs, Configuration defaultConfiguration) {
+			BeanPropertyTester beanPropertyTester, Map<Class<?>, Configuration> configs, Configuration defaultConfiguration,
+			int iterationParallelism) {
+		ValidationHelper.ensure(iterationParallelism >= 1, "Iteration parallelism must be at least 1.");
 		this.randomValueGenerator = randomValueGenerator;
+		this.serviceRandomValueGenerator = RandomValueGenerator.getInstance();
 		this.factoryCollection = factoryCollection;
 		this.factoryLookupStrategy = factoryLookupStrategy;
 		this.beanInformationFactory = beanInformationFactory;
 		this.beanPropertyTester = beanPropertyTester;
+		this.primitiveFastPath =
+				beanPropertyTester != null && beanPropertyTester.getClass() == BeanPropertyTester.class;
 		this.customConfigurations = configs;
 		this.defaultConfiguration = defaultConfiguration;
+		this.iterationParallelism = iterationParallelism;
+		ServiceLoader<SideEffectDetector> sideEffectDetectorLoader = new ServiceLoader<>(SideEffectDetector.class);
+		this.sideEffectDetectorSupplier = sideEffectDetectorLoader::createFirst;
 	}
 
 	/**
@@ -204,6 +237,16 @@ public class BeanTester {
 		return defaultConfiguration.getIterations();
 	}
 
+	/**
+	 * Get the number of worker threads the iterations of a single bean are spread across. A value of 1 means that
+	 * iterations run one after another on the calling thread.
+	 * 
+	 * @return The number of worker threads used to test a single bean. This value will be at least 1.
+	 */
+	public int getIterationParallelism() {
+		return iterationParallelism;
+	}
+
 	/**
 	 * Add the specified Configuration as a custom Configuration to be used as an override to any global configuration
 	 * settings when testing the type specified by the beanClass parameter.
@@ -356,9 +399,89 @@ public class BeanTester {
 		
 		// Get all information about a potential JavaBean class
 		BeanInformation beanInformation = beanInformationFactory.create(beanClass);
+		// Resolve everything that does not change between iterations once
+		BeanTestPlan plan = BeanTestPlan.compile(beanInformation, customConfiguration, factoryLookupStrategy);
+		long seed = chooseSeed(customConfiguration);
+		// Run only the requested iteration when replaying a failure
+		if (customConfiguration != null && customConfiguration.getReplayIteration() != null) {
+			testBean(plan, customConfiguration, seed, customConfiguration.getReplayIteration());
+			return;
+		}
 		// Test the JavaBean 'iterations' times
-		for (int idx = 0; idx < iterations; idx++) {
-			testBean(beanInformation, customConfiguration);
+		if (iterationParallelism > 1 && iterations > 1) {
+			testBeanInParallel(plan, customConfiguration, seed, iterations);
+		} else {
+			for (int idx = 0; idx < iterations; idx++) {
+				testBean(plan, customConfiguration, seed, idx);
+			}
+		}
+	}
+
+	/**
+	 * Get the seed the iterations of a bean generate their values from: the configured seed if there is one, or a new
+	 * random seed otherwise.
+	 */
+	private long chooseSeed(Configuration configuration) {
+		if (configuration != null && configuration.getSeed() != null) {
+			return configuration.getSeed();
+		}
+		if (defaultConfiguration.getSeed() != null) {
+			return defaultConfiguration.getSeed();
+		}
+		return ThreadLocalRandom.current().nextLong();
+	}
+
+	/**
+	 * Derive the seed of a single iteration from the seed of the bean, so that any iteration can be replayed on its
+	 * own.
+	 */
+	static long iterationSeed(long seed, int iteration) {
+		long z = seed + (iteration + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Spread the iterations of a single bean across worker threads. Each iteration still creates its own bean instance
+	 * and side-effect detector. The first failure stops all workers from starting further iterations and is rethrown
+	 * on the calling thread.
+	 */
+	private void testBeanInParallel(BeanTestPlan plan, Configuration configuration, long seed, int iterations) {
+		int workers = Math.min(iterationParallelism, iterations);
+		AtomicInteger remainingIterations = new AtomicInteger(iterations);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		Runnable worker = ServiceFactory.withCurrentScope(() -> {
+			int remaining;
+			while (failure.get() == null && (remaining = remainingIterations.getAndDecrement()) > 0) {
+				try {
+					testBean(plan, configuration, seed, iterations - remaining);
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			}
+		});
+
+		ForkJoinPool pool = new ForkJoinPool(workers);
+		try {
+			List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+			for (int idx = 0; idx < workers; idx++) {
+				tasks.add(pool.submit(worker));
+			}
+			tasks.forEach(ForkJoinTask::join);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		Throwable cause = failure.get();
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		} else if (cause instanceof RuntimeException) {
+			throw (RuntimeException) cause;
+		} else if (cause != null) {
+			throw new BeanTestException("Cannot test bean [" + plan.getBeanInformation().getBeanClass().getName() + "].",
+					cause);
 		}
 	}
 
@@ -380,6 +503,13 @@ public class BeanTester {
 	 * When a test is failed, an AssertionError is thrown.
 	 * </p>
 	 * 
+	 * <p>
+	 * Only a single iteration is run: the replay iteration if the configuration has one, or the first iteration
+	 * otherwise. Testing a bean class with {@link #testBean(Class, Configuration)} does not call this method, but runs
+	 * each of its iterations through {@link #testBean(BeanTestPlan, Configuration, long, int)}, which is the method to
+	 * override to customise how an iteration is tested.
+	 * </p>
+	 * 
 	 * @param beanInformation
 	 *            Information about the type to be tested.
 	 * @param configuration
@@ -396,41 +526,118 @@ public class BeanTester {
 	protected void testBean(BeanInformation beanInformation, Configuration configuration)
 			throws IllegalArgumentException, AssertionError, BeanTestException {
 		ValidationHelper.ensureExists("beanInformation", "test bean", beanInformation);
+		int iteration = configuration != null && configuration.getReplayIteration() != null
+				? configuration.getReplayIteration()
+				: 0;
+		testBean(BeanTestPlan.compile(beanInformation, configuration, factoryLookupStrategy), configuration,
+				chooseSeed(configuration), iteration);
+	}
+
+	/**
+	 * Run the specified test iteration of the bean described by the specified plan. The iteration generates its values,
+	 * including those of the shared factories, with a generator derived from the seed of the bean: a fork of a
+	 * {@link SplittableRandomValueGenerator} when one is configured, or the configured generator seeded for the
+	 * iteration otherwise. If the values are repeatable, any failure carries the seed and iteration in a suppressed
+	 * {@link ReplayInformation} so that the iteration can be replayed. Every iteration of a bean is tested through
+	 * this method, whether the iterations are run one after another, in parallel or replayed.
+	 * 
+	 * @param plan
+	 *            The compiled plan for testing the bean type.
+	 * @param configuration
+	 *            The custom Configuration to be used when testing the bean type. May be <code>null</code>.
+	 * @param seed
+	 *            The seed of the bean, from which the values of the iteration are derived.
+	 * @param iteration
+	 *            The index of the iteration to test.
+	 * 
+	 * @throws AssertionError
+	 *             If the bean fails the test.
+	 * @throws BeanTestException
+	 *             If an unexpected exception occurs during testing.
+	 * 
+	 * @see VerifierSettings#replayIteration(long, int)
+	 */
+	protected void testBean(BeanTestPlan plan, Configuration configuration, long seed, int iteration)
+			throws AssertionError, BeanTestException {
+		RandomValueGenerator iterationGenerator = iterationRandomValueGenerator(seed, iteration);
+		boolean seeded = seedRandomValueGenerators(iterationGenerator, iterationSeed(seed, iteration));
+		try {
+			ScopedRandomValueGenerator.runWith(iterationGenerator,
+					() -> testBean(plan, configuration, iteration, iterationGenerator));
+		} catch (AssertionError | BeanTestException e) {
+			if (seeded) {
+				e.addSuppressed(new ReplayInformation(seed, iteration));
+			}
+			throw e;
+		} finally {
+			clearRandomValueGeneratorSeeds();
+		}
+	}
+
+	/**
+	 * Get the generator a single iteration generates its values with. A SplittableRandomValueGenerator is forked for
+	 * the iteration from the seed of the bean, so that iterations on different threads share no state.
+	 */
+	private RandomValueGenerator iterationRandomValueGenerator(long seed, int iteration) {
+		if (randomValueGenerator instanceof SplittableRandomValueGenerator) {
+			return new SplittableRandomValueGenerator(seed).fork(iteration);
+		}
+		return randomValueGenerator;
+	}
+
+	/**
+	 * Seed the generator of the iteration, unless it was forked from the seed already, and the default generator, which
+	 * factories that do not use the generator of the iteration may draw from.
+	 * 
+	 * @return <code>true</code> if every generator was seeded, so that the values of the iteration are repeatable.
+	 */
+	private boolean seedRandomValueGenerators(RandomValueGenerator iterationGenerator, long iterationSeed) {
+		boolean seeded = iterationGenerator != randomValueGenerator || randomValueGenerator.setSeed(iterationSeed);
+		if (serviceRandomValueGenerator != randomValueGenerator) {
+			seeded &= serviceRandomValueGenerator.setSeed(iterationSeed);
+		}
+		return seeded;
+	}
+
+	private void clearRandomValueGeneratorSeeds() {
+		randomValueGenerator.clearSeed();
+		if (serviceRandomValueGenerator != randomValueGenerator) {
+			serviceRandomValueGenerator.clearSeed();
+		}
+	}
 
-		// Get just the properties of the bean that are readable and writable
-		// Skip testing any 'ignored' properties
-		List<PropertyInformation> readableWritableProperties = PropertyInformationFilter.filter(beanInformation.getProperties(),
-				configuration);
+	private void testBean(BeanTestPlan plan, Configuration configuration, int iteration,
+			RandomValueGenerator iterationGenerator) throws AssertionError, BeanTestException {
+		BeanInformation beanInformation = plan.getBeanInformation();
 
 		// Instantiate
-		Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
 		Object bean;
 		try {
-			bean = beanFactory.create();
+			bean = plan.getBeanFactory().create();
 		} catch (Exception e) {
 			String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
 					+ "]. Failed to instantiate an instance of the bean.";
 			throw new BeanTestException(message, e);
 		}
 
-		SideEffectDetector sideEffectDetector = createSideEffectDetector(configuration);
-		sideEffectDetector.init(bean, readableWritableProperties);
+		SideEffectDetector sideEffectDetector = createSideEffectDetector(configuration, iteration, iterationGenerator);
+		List<PropertyInformation> readableWritableProperties = sideEffectDetector.init(bean, plan.copyProperties());
 
 		// Test each property
 		for (PropertyInformation property : readableWritableProperties) {
-			EqualityTest equalityTest = EqualityTest.LOGICAL;
-			Object testValue = null;
+			EqualityTest equalityTest = plan.getEqualityTest(property);
+			Class<?> primitiveType = primitiveFastPath ? plan.getPrimitiveType(property) : null;
+			if (primitiveType != null) {
+				sideEffectDetector.beforeTestProperty(property, equalityTest);
+				testPrimitiveProperty(plan, bean, property, primitiveType);
+				sideEffectDetector.detectAfterTestProperty();
+				continue;
+			}
+			Object testValue;
 			try {
-				Factory<?> valueFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
-				testValue = valueFactory.create();
-				if (valueFactory instanceof BasicNewObjectInstanceFactory) {
-					equalityTest = EqualityTest.ABSOLUTE;
-				}
+				testValue = plan.getValueFactory(property).create();
 			} catch (Exception e) {
-				String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
-						+ "]. Failed to instantiate a test value for property [" + property.getName()
-						+ "].";
-				throw new BeanTestException(message, e);
+				throw new BeanTestException(BeanTestPlan.failedToCreateValueMessage(beanInformation, property), e);
 			}
 
 			sideEffectDetector.beforeTestProperty(property, equalityTest);
@@ -439,14 +646,38 @@ public class BeanTester {
 		}
 	}
 
+	/**
+	 * Test a property whose getter, setter and value Factory all use the specified primitive type, without boxing the
+	 * test value.
+	 */
+	private void testPrimitiveProperty(BeanTestPlan plan, Object bean, PropertyInformation property,
+			Class<?> primitiveType) throws AssertionError, BeanTestException {
+		if (primitiveType == int.class) {
+			beanPropertyTester.testIntProperty(bean, property, plan.createIntValue(property));
+		} else if (primitiveType == long.class) {
+			beanPropertyTester.testLongProperty(bean, property, plan.createLongValue(property));
+		} else if (primitiveType == double.class) {
+			beanPropertyTester.testDoubleProperty(bean, property, plan.createDoubleValue(property));
+		} else {
+			beanPropertyTester.testBooleanProperty(bean, property, plan.createBooleanValue(property));
+		}
+	}
+
 	/**
 	 * @see VerifierSettings#suppressWarning(Warning)
+	 * @see VerifierSettings#setSideEffectDetection(SideEffectDetection)
 	 */
-	private SideEffectDetector createSideEffectDetector(Configuration configuration) {
+	private SideEffectDetector createSideEffectDetector(Configuration configuration, int iteration,
+			RandomValueGenerator iterationGenerator) {
 		if (configuration != null && configuration.isSuppressedWarning(Warning.SETTER_SIDE_EFFECT)) {
 			return NoopSideEffectDetector.INSTANCE;
 		}
-		ServiceLoader<SideEffectDetector> serviceLoader = new ServiceLoader<>(SideEffectDetector.class);
-		return serviceLoader.createAll().get(0);
+		SideEffectDetection sideEffectDetection = configuration != null
+				? configuration.getSideEffectDetection()
+				: defaultConfiguration.getSideEffectDetection();
+		if (sideEffectDetection != null && !sideEffectDetection.isDetectedIn(iteration, iterationGenerator)) {
+			return NoopSideEffectDetector.INSTANCE;
+		}
+		return sideEffectDetectorSupplier.get();
 	}
 }
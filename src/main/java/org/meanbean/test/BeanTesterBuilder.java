@@ -56,6 +56,8 @@ public class BeanTesterBuilder {
 	private Map<Class<?>, Configuration> customConfigurations = new ConcurrentHashMap<>();
 
 	private Configuration defaultConfiguration = Configuration.defaultConfiguration();
+
+	private int iterationParallelism = 1;
     
 	public static BeanTesterBuilder newBeanTesterBuilder() {
 		return new BeanTesterBuilder();
@@ -165,6 +167,20 @@ public class BeanTesterBuilder {
 		return this;
 	}
 
+	public int getIterationParallelism() {
+		return iterationParallelism;
+	}
+
+	/**
+	 * Set the number of worker threads the iterations of a single bean are spread across. Defaults to 1, which runs
+	 * iterations one after another on the calling thread.
+	 */
+	public BeanTesterBuilder setIterationParallelism(int iterationParallelism) {
+		ValidationHelper.ensure(iterationParallelism >= 1, "Iteration parallelism must be at least 1.");
+		this.iterationParallelism = iterationParallelism;
+		return this;
+	}
+
 	public int getIterations(Class<?> beanClass) {
 		return getConfigurationFor(beanClass).getIterations();
 	}
@@ -265,7 +281,8 @@ public class BeanTesterBuilder {
 				beanInformationFactory,
 				beanPropertyTester,
 				customConfigurations,
-				defaultConfiguration);
+				defaultConfiguration,
+				iterationParallelism);
 	}
 
 	public EqualsMethodTester buildEqualsMethodTester() {
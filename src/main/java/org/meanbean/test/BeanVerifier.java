@@ -38,7 +38,9 @@ import java.util.function.Consumer;
  * BeanVerifier.verifyBean(Company.class); // verify bean methods, equals/hashCode and toString
  * 
  * BeanVerifier.verifyBeans(Company.class, Employee.class);
- * 
+ *
+ * BeanVerifier.verifyBeansInParallel(4, Company.class.getPackage()); // verify up to 4 beans concurrently
+ *
  * BeanVerifier.forClass(Company.class)
  *     .withSettings(settings -&gt; settings.setDefaultIterations(12))
  *     .withSettings(settings -&gt; settings.addIgnoredProperty(Company::getName)) // exclude name property in bean getter/setter test
@@ -89,6 +91,31 @@ public interface BeanVerifier {
 		verifyBeansIn(packageObj.getName());
 	}
 
+	/**
+	 * Verify that given beanClasses have valid bean getters/setters, equals/hashCode, and toString methods, verifying up
+	 * to parallelism bean classes concurrently. Every bean class is verified; failures are reported together.
+	 */
+	public static void verifyBeansInParallel(int parallelism, Class<?>... beanClasses) {
+		ParallelBeanVerifier.verifyBeans(parallelism, beanClasses);
+	}
+
+	/**
+	 * Verify that bean classes in given packageName have valid bean getters/setters, equals/hashCode, and toString
+	 * methods, verifying up to parallelism bean classes concurrently
+	 */
+	public static void verifyBeansInParallel(int parallelism, String packageName) {
+		Class<?>[] beanClasses = ClassPathUtils.findClassesIn(packageName);
+		verifyBeansInParallel(parallelism, beanClasses);
+	}
+
+	/**
+	 * Verify that bean classes in given packageObj have valid bean getters/setters, equals/hashCode, and toString
+	 * methods, verifying up to parallelism bean classes concurrently
+	 */
+	public static void verifyBeansInParallel(int parallelism, Package packageObj) {
+		verifyBeansInParallel(parallelism, packageObj.getName());
+	}
+
 	/**
 	 * Customizes bean verification settings. Example:
 	 * <pre>
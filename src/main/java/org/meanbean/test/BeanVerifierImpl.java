@@ -66,8 +66,7 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
 	@Override
 	public BeanVerifier verifyEqualsAndHashCode() {
 		ServiceFactory.inScope(() -> {
-			builder.buildEqualsMethodTester().testEqualsMethod(beanClass);
-			builder.buildHashCodeMethodTester().testHashCodeMethod(beanClass);
+			builder.buildEqualsMethodTester().testEqualsAndHashCodeMethods(beanClass);
 		});
 
 		return this;
@@ -87,6 +86,20 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
 		return this;
 	}
 
+	@Override
+	public VerifierSettingsEditor setSideEffectDetection(SideEffectDetection sideEffectDetection) {
+		builder.getConfigurationFor(beanClass).setSideEffectDetection(sideEffectDetection);
+		return this;
+	}
+
+	@Override
+	public VerifierSettingsEditor replayIteration(long seed, int iteration) {
+		Configuration configuration = builder.getConfigurationFor(beanClass);
+		configuration.setReplayIteration(iteration);
+		configuration.setSeed(seed);
+		return this;
+	}
+
 	@Override
 	public RandomValueGenerator getRandomValueGenerator() {
 		return builder.getRandomValueGenerator();
@@ -154,6 +167,17 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
 		return this;
 	}
 
+	@Override
+	public int getIterationParallelism() {
+		return builder.getIterationParallelism();
+	}
+
+	@Override
+	public VerifierSettingsEditor setIterationParallelism(int iterationParallelism) {
+		builder.setIterationParallelism(iterationParallelism);
+		return this;
+	}
+
 	@Override
 	public VerifierSettingsEditor addIgnoredPropertyName(String property) {
 		builder.addIgnoredPropertyName(beanClass(), property);
@@ -83,6 +83,15 @@ public class Configuration {
 	private List<String> equalsInsignificantProperties = new ArrayList<>();
 	
 	private Set<Warning> suppressedWarnings = EnumSet.noneOf(Warning.class);
+
+	/** The iterations in which setter side-effects are detected. */
+	private SideEffectDetection sideEffectDetection = SideEffectDetection.full();
+
+	/** The seed random test values are generated from. This will be null if a new seed is chosen for every test. */
+	private Long seed;
+
+	/** The single iteration to run. This will be null if every iteration should be run. */
+	private Integer replayIteration;
 	
 	/**
      * Construct a new Configuration.
@@ -157,6 +166,50 @@ public class Configuration {
         suppressedWarnings.add(warning);
     }
 
+	/**
+	 * Get the iterations in which setter side-effects are detected. Detection in any iteration is disabled if
+	 * {@link Warning#SETTER_SIDE_EFFECT} is suppressed.
+	 * 
+	 * @return The side-effect detection strategy. Never <code>null</code>.
+	 */
+	public SideEffectDetection getSideEffectDetection() {
+		return sideEffectDetection;
+	}
+
+	void setSideEffectDetection(SideEffectDetection sideEffectDetection) {
+		ValidationHelper.ensureExists("sideEffectDetection", "set side-effect detection", sideEffectDetection);
+		this.sideEffectDetection = sideEffectDetection;
+	}
+
+	/**
+	 * Get the seed random test values are generated from. Each test iteration generates its values from a seed derived
+	 * from this seed and the iteration index.
+	 * 
+	 * @return The seed, or <code>null</code> if a new seed is chosen every time a type is tested.
+	 */
+	public Long getSeed() {
+		return seed;
+	}
+
+	void setSeed(Long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Get the index of the single test iteration that should be run, as reported alongside the seed when a test fails.
+	 * 
+	 * @return The iteration index, or <code>null</code> if every iteration should be run.
+	 */
+	public Integer getReplayIteration() {
+		return replayIteration;
+	}
+
+	void setReplayIteration(Integer replayIteration) {
+		ValidationHelper.ensure(replayIteration == null || replayIteration >= 0,
+				"Replay iteration cannot be negative.");
+		this.replayIteration = replayIteration;
+	}
+
 	/**
 	 * <p>
 	 * Does the specified property have an override Factory?
@@ -55,7 +55,16 @@ public class ConfigurationBuilder {
 	private final Map<String, Factory<?>> overrideFactories = new ConcurrentHashMap<>();
 
     private Set<Warning> suppressedWarnings = EnumSet.noneOf(Warning.class);
-    
+
+	/** The iterations in which setter side-effects are detected. */
+	private SideEffectDetection sideEffectDetection = SideEffectDetection.full();
+
+	/** The seed random test values are generated from. */
+	private Long seed;
+
+	/** The single iteration to run. */
+	private Integer replayIteration;
+
 	/**
 	 * Construct a new Configuration Builder.
 	 */
@@ -119,14 +128,70 @@ public class ConfigurationBuilder {
 		return this;
 	}
 
+	/**
+	 * Set the iterations in which setter side-effects are detected.
+	 * 
+	 * @param sideEffectDetection
+	 *            The side-effect detection strategy.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the sideEffectDetection parameter is deemed illegal. For example, if it is null.
+	 * 
+	 * @return A Configuration Builder.
+	 */
+	public ConfigurationBuilder sideEffectDetection(SideEffectDetection sideEffectDetection)
+			throws IllegalArgumentException {
+		ValidationHelper.ensureExists("sideEffectDetection", "set side-effect detection", sideEffectDetection);
+		this.sideEffectDetection = sideEffectDetection;
+		return this;
+	}
+
+	/**
+	 * Generate random test values from the specified seed, so that every test of a type uses the same values.
+	 * 
+	 * @param seed
+	 *            The seed to generate test values from.
+	 * 
+	 * @return A Configuration Builder.
+	 */
+	public ConfigurationBuilder seed(long seed) {
+		this.seed = seed;
+		return this;
+	}
+
+	/**
+	 * Run only the specified iteration, generating its test values from the specified seed. Both values are reported
+	 * when a test fails.
+	 * 
+	 * @param seed
+	 *            The seed reported by the failed test.
+	 * @param iteration
+	 *            The iteration index reported by the failed test.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the iteration parameter is deemed illegal. For example, if it is negative.
+	 * 
+	 * @return A Configuration Builder.
+	 */
+	public ConfigurationBuilder replayIteration(long seed, int iteration) throws IllegalArgumentException {
+		ValidationHelper.ensure(iteration >= 0, "Replay iteration cannot be negative.");
+		this.seed = seed;
+		this.replayIteration = iteration;
+		return this;
+	}
+
 	/**
      * Build a Configuration.
      * 
      * @return A Configuration object.
      */
     public Configuration build() {
-        return new Configuration(iterations, unmodifiableSet(ignoredProperties), unmodifiableMap(overrideFactories),
-                unmodifiableSet(suppressedWarnings));
+        Configuration configuration = new Configuration(iterations, unmodifiableSet(ignoredProperties),
+                unmodifiableMap(overrideFactories), unmodifiableSet(suppressedWarnings));
+        configuration.setSideEffectDetection(sideEffectDetection);
+        configuration.setSeed(seed);
+        configuration.setReplayIteration(replayIteration);
+        return configuration;
     }
 
 	/**
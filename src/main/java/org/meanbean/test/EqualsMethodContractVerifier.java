@@ -106,12 +106,97 @@ class EqualsMethodContractVerifier {
 	 */
 	public void verifyEqualsMethod(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
 		ValidationHelper.ensureExists("factory", "test equals", factory);
-		verifyEqualsReflexive(factory);
-		verifyEqualsSymmetric(factory);
-		verifyEqualsTransitive(factory);
-		verifyEqualsConsistent(factory);
-		verifyEqualsNull(factory);
-		verifyEqualsDifferentType(factory);
+		verifyContract(factory, false);
+	}
+
+	/**
+	 * <p>
+	 * Verify the equals logic implemented by the type the specified factory creates as
+	 * {@link #verifyEqualsMethod(EquivalentFactory)} does and, against the same objects, that its hashCode logic
+	 * returns the same hashCode for logically equivalent objects and is consistent across multiple invocations.
+	 * </p>
+	 * 
+	 * <p>
+	 * If the test fails, an AssertionError is thrown.
+	 * </p>
+	 * 
+	 * @param factory
+	 *            An EquivalentFactory that creates non-null logically equivalent objects.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the specified factory is deemed illegal. For example, if it is <code>null</code>, if it creates a
+	 *             <code>null</code> object or if it creates objects that are not logically equivalent.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 */
+	public void verifyEqualsAndHashCodeMethods(EquivalentFactory<?> factory) throws IllegalArgumentException,
+			AssertionError {
+		ValidationHelper.ensureExists("factory", "test equals and hash code", factory);
+		verifyContract(factory, true);
+	}
+
+	/**
+	 * Evaluate every item of the equals contract, and optionally the hashCode contract, against a single set of three
+	 * logically equivalent objects, in the same order and with the same messages as the individual verifications.
+	 * Creating objects through an EquivalentFactory is typically far more expensive than the equals calls themselves.
+	 */
+	private void verifyContract(EquivalentFactory<?> factory, boolean includeHashCode) {
+		Object x = factory.create();
+		Object y = factory.create();
+		Object z = factory.create();
+		ValidationHelper.ensureExists("factory-created object", "test equals", x);
+		ValidationHelper.ensureExists("factory-created object", "test equals", y);
+		ValidationHelper.ensureExists("factory-created object", "test equals", z);
+		// reflexive
+		if (!x.equals(x)) {
+			AssertionUtils.fail("equals is not reflexive.");
+		}
+		// symmetric
+		if (!y.equals(z)) {
+			String message =
+			        "Cannot test equals symmetric item if factory does not create logically equivalent "
+			                + "objects. Does factory not create logically equivalent objects, or do objects not override "
+			                + "equals?";
+			throw new IllegalArgumentException(message);
+		}
+		if (!z.equals(y)) {
+			AssertionUtils.fail("equals is not symmetric.");
+		}
+		// transitive
+		if (!(x.equals(y) && y.equals(z))) {
+			String message =
+			        "Cannot test equals transitive item if factory does not create logically equivalent objects.";
+			throw new IllegalArgumentException(message);
+		}
+		if (!x.equals(z)) {
+			AssertionUtils.fail("equals is not transitive.");
+		}
+		// consistent
+		for (int idx = 0; idx < 100; idx++) {
+			if (!y.equals(z)) {
+				AssertionUtils.fail("equals is not consistent on invocation [" + idx + "].");
+			}
+		}
+		// null and different type
+		if (x.equals(NULL)) {
+			AssertionUtils.fail("equals is incorrect with respect to null comparison.");
+		}
+		if (x.equals(new Object())) {
+			AssertionUtils.fail("equals should not find objects of different type to be equal.");
+		}
+		if (!includeHashCode) {
+			return;
+		}
+		// equal objects have equal hashCodes, and hashCode is consistent
+		int hashCode = y.hashCode();
+		if (hashCode != z.hashCode()) {
+			AssertionUtils.fail("hashCodes are not the same for equal objects.");
+		}
+		for (int idx = 0; idx < 100; idx++) {
+			if (y.hashCode() != hashCode) {
+				AssertionUtils.fail("hashCode is not consistent on invocation [" + idx + "].");
+			}
+		}
 	}
 
 	/**
@@ -149,7 +149,7 @@ public class EqualsMethodTester {
 	private final EqualsMethodContractVerifier contractVerifier = new EqualsMethodContractVerifier();
 
 	/** The verifier to which property significance verification is delegated. */
-	private final EqualsMethodPropertySignificanceVerifier propertySignificanceVerifier = new PropertyBasedEqualsMethodPropertySignificanceVerifier();
+	private final PropertyBasedEqualsMethodPropertySignificanceVerifier propertySignificanceVerifier = new PropertyBasedEqualsMethodPropertySignificanceVerifier();
 
 	private final Configuration defaultConfiguration;
 	private final Map<Class<?>, Configuration> customConfigurations;
@@ -413,24 +413,36 @@ public class EqualsMethodTester {
 	public void testEqualsMethod(EquivalentFactory<?> factory, Configuration customConfiguration,
 			String... insignificantProperties) throws IllegalArgumentException, BeanInformationException,
 			BeanTestException, AssertionError {
-		ServiceFactory.inScope(() -> doTestEqualsMethod(factory, customConfiguration, insignificantProperties));
+		ServiceFactory.inScope(() -> doTestEqualsMethod(factory, customConfiguration, false, insignificantProperties));
 	}
 
-	private void doTestEqualsMethod(EquivalentFactory<?> factory, Configuration customConfiguration,
-			String... insignificantProperties) throws IllegalArgumentException, BeanInformationException,
+	/**
+	 * Test the equals logic implemented by the specified type as {@link #testEqualsMethod(Class, String...)} does, and
+	 * its hashCode logic as {@link HashCodeMethodTester#testHashCodeMethod(Class)} does, verifying both contracts
+	 * against the same objects.
+	 */
+	void testEqualsAndHashCodeMethods(Class<?> clazz) throws IllegalArgumentException, BeanInformationException,
 			BeanTestException, AssertionError {
+		ValidationHelper.ensureExists("clazz", "test equals and hash code methods", clazz);
+		EquivalentFactory<?> factory = createEquivalentFactory(clazz);
+		Configuration customConfiguration = getEffectiveConfiguration(clazz, null);
+		ServiceFactory.inScope(() -> doTestEqualsMethod(factory, customConfiguration, true));
+	}
+
+	private void doTestEqualsMethod(EquivalentFactory<?> factory, Configuration customConfiguration,
+			boolean includeHashCode, String... insignificantProperties) throws IllegalArgumentException,
+			BeanInformationException, BeanTestException, AssertionError {
 		ValidationHelper.ensureExists("factory", "test equals method", factory);
 		ValidationHelper.ensureExists("insignificantProperties", "test equals method", insignificantProperties);
 		insignificantProperties = insignificantProperties == null || insignificantProperties.length == 0
 				? defaultConfiguration.getEqualsInsignificantProperties().toArray(new String[0])
 				: insignificantProperties;
 
-		contractVerifier.verifyEqualsReflexive(factory);
-		contractVerifier.verifyEqualsSymmetric(factory);
-		contractVerifier.verifyEqualsTransitive(factory);
-		contractVerifier.verifyEqualsConsistent(factory);
-		contractVerifier.verifyEqualsNull(factory);
-		contractVerifier.verifyEqualsDifferentType(factory);
+		if (includeHashCode) {
+			contractVerifier.verifyEqualsAndHashCodeMethods(factory);
+		} else {
+			contractVerifier.verifyEqualsMethod(factory);
+		}
 
 		customConfiguration = getEffectiveConfiguration(null, customConfiguration);
 		// Override the standard number of iterations if need be
@@ -439,9 +451,12 @@ public class EqualsMethodTester {
 			iterations = customConfiguration.getIterations();
 		}
 
+		// Resolve everything that does not change between iterations once
+		PropertySignificancePlan plan =
+				propertySignificanceVerifier.compile(factory, customConfiguration, insignificantProperties);
 		// Test property significance 'iterations' times
 		for (int idx = 0; idx < iterations; idx++) {
-			propertySignificanceVerifier.verifyEqualsMethod(factory, customConfiguration, insignificantProperties);
+			propertySignificanceVerifier.verifyEqualsMethod(plan, factory);
 		}
 	}
 
@@ -0,0 +1,106 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.util.ServiceFactory;
+import org.meanbean.util.ValidationHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Verifies multiple bean classes concurrently on a work-stealing pool. Each bean class is verified within the calling
+ * thread's service scope on the worker thread that picks it up, so factories registered by the caller are used just as
+ * when verifying the bean classes one after another.
+ * 
+ * @see BeanVerifier#verifyBeansInParallel(int, Class...)
+ */
+final class ParallelBeanVerifier {
+
+	private ParallelBeanVerifier() {
+		// Make non-instantiable
+	}
+
+	/**
+	 * Verify the given bean classes using at most parallelism worker threads. All bean classes are verified, even if
+	 * some fail. The failure of the first failing bean class (in the given order) is thrown, with the failures of any
+	 * other bean classes attached as suppressed exceptions.
+	 * 
+	 * @param parallelism
+	 *            The maximum number of bean classes verified concurrently. Must be at least 1.
+	 * @param beanClasses
+	 *            The bean classes to verify.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If parallelism is less than 1 or beanClasses is null.
+	 * @throws AssertionError
+	 *             If any bean class fails verification.
+	 */
+	static void verifyBeans(int parallelism, Class<?>... beanClasses) throws IllegalArgumentException, AssertionError {
+		ValidationHelper.ensure(parallelism >= 1, "Parallelism must be at least 1.");
+		ValidationHelper.ensureExists("beanClasses", "verify beans", beanClasses);
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<ForkJoinTask<AssertionError>> tasks = new ArrayList<>(beanClasses.length);
+			for (Class<?> beanClass : beanClasses) {
+				AtomicReference<AssertionError> beanFailure = new AtomicReference<>();
+				// bind to the caller's scope here, on the calling thread, so workers see the caller's services
+				Runnable verification = ServiceFactory.withCurrentScope(() -> beanFailure.set(verifyBean(beanClass)));
+				tasks.add(pool.submit(() -> {
+					verification.run();
+					return beanFailure.get();
+				}));
+			}
+
+			AssertionError failure = null;
+			for (ForkJoinTask<AssertionError> task : tasks) {
+				AssertionError beanFailure = task.join();
+				if (beanFailure == null) {
+					continue;
+				}
+				if (failure == null) {
+					failure = beanFailure;
+				} else {
+					failure.addSuppressed(beanFailure);
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static AssertionError verifyBean(Class<?> beanClass) {
+		try {
+			// a nested scope per bean, as when verifying the beans one after another
+			ServiceFactory.inScope(() -> BeanVerifier.verifyBean(beanClass));
+			return null;
+		} catch (AssertionError | RuntimeException e) {
+			return new AssertionError("Cannot verify bean type " + beanClass.getName(), e);
+		}
+	}
+}
@@ -23,11 +23,13 @@ package org.meanbean.test;
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationException;
 import org.meanbean.bean.info.BeanInformationFactory;
+import org.meanbean.bean.info.PropertyAccessor;
 import org.meanbean.bean.info.PropertyInformation;
 import org.meanbean.bean.util.PropertyInformationFilter;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.EquivalentFactory;
 import org.meanbean.lang.Factory;
+import org.meanbean.test.PropertySignificancePlan.PropertyCheck;
 import org.meanbean.util.ValidationHelper;
 
 import java.util.ArrayList;
@@ -247,6 +249,34 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
     public void verifyEqualsMethod(EquivalentFactory<?> factory, Configuration customConfiguration,
 	        String... insignificantProperties) throws IllegalArgumentException, BeanInformationException,
             BeanTestException, AssertionError {
+		verifyEqualsMethod(compile(factory, customConfiguration, insignificantProperties), factory);
+	}
+
+	/**
+	 * Compile a plan for verifying the equals logic of the type the specified factory creates, which can be reused by
+	 * every iteration of {@link #verifyEqualsMethod(PropertySignificancePlan, EquivalentFactory)}.
+	 * 
+	 * @param factory
+	 *            An EquivalentFactory that creates non-null logically equivalent objects.
+	 * @param customConfiguration
+	 *            A custom Configuration to be used when testing. May be <code>null</code>.
+	 * @param insignificantProperties
+	 *            The names of properties that are not used when deciding whether objects are logically equivalent.
+	 * 
+	 * @return A plan for verifying the equals logic of the type.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If either the specified factory or insignificantProperties are deemed illegal. For example, if either
+	 *             is <code>null</code>. Also, if any of the specified insignificantProperties do not exist on the class
+	 *             under test.
+	 * @throws BeanInformationException
+	 *             If a problem occurs when trying to obtain information about the type to test.
+	 * @throws BeanTestException
+	 *             If a Factory cannot be found for any of the properties to verify.
+	 */
+	PropertySignificancePlan compile(EquivalentFactory<?> factory, Configuration customConfiguration,
+			String... insignificantProperties) throws IllegalArgumentException, BeanInformationException,
+			BeanTestException {
 		ValidationHelper.ensureExists("factory", "test equals", factory);
 		ValidationHelper.ensureExists("insignificantProperties", "test equals", insignificantProperties);
 		
@@ -260,13 +290,46 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
 		ValidationHelper.ensureExists("factory-created object", "test equals", prototype);
 		BeanInformation beanInformation = beanInformationFactory.create(prototype.getClass());
 		ensureInsignificantPropertiesExist(beanInformation, insignificantPropertyNames);
-		Collection<PropertyInformation> properties = beanInformation.getProperties();
-        properties = PropertyInformationFilter.filter(beanInformation.getProperties(), customConfiguration);
-        for (PropertyInformation property : properties) {
-            verifyEqualsMethodForProperty(beanInformation, factory, customConfiguration, property,
-                    !insignificantPropertyNames.contains(property.getName()));
-        }
-    }
+		Collection<PropertyInformation> properties =
+				PropertyInformationFilter.filter(beanInformation.getProperties(), customConfiguration);
+		List<PropertyCheck> propertyChecks = new ArrayList<>(properties.size());
+		for (PropertyInformation property : properties) {
+			Factory<?> valueFactory;
+			try {
+				valueFactory = factoryLookupStrategy.getFactory(beanInformation, property, customConfiguration);
+			} catch (IllegalArgumentException e) {
+				throw e; // re-throw without wrapping
+			} catch (Exception e) {
+				throw new BeanTestException(failedToTestPropertyMessage(property, e), e);
+			}
+			propertyChecks.add(new PropertyCheck(property, valueFactory,
+					!insignificantPropertyNames.contains(property.getName())));
+		}
+		return new PropertySignificancePlan(propertyChecks);
+	}
+
+	/**
+	 * Verify the equals logic implemented by the type the specified factory creates, as
+	 * {@link #verifyEqualsMethod(EquivalentFactory, Configuration, String...)} does, using a previously compiled plan.
+	 * 
+	 * @param plan
+	 *            A plan compiled for the specified factory.
+	 * @param factory
+	 *            An EquivalentFactory that creates non-null logically equivalent objects.
+	 * 
+	 * @throws BeanTestException
+	 *             If a problem occurs when testing the type, such as an inability to read or write a property of the
+	 *             type to test.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 */
+	void verifyEqualsMethod(PropertySignificancePlan plan, EquivalentFactory<?> factory)
+			throws IllegalArgumentException, BeanTestException, AssertionError {
+		for (PropertyCheck propertyCheck : plan.getPropertyChecks()) {
+			verifyEqualsMethodForProperty(factory, propertyCheck.getProperty(), propertyCheck.getValueFactory(),
+					propertyCheck.isSignificant());
+		}
+	}
 
 	/**
 	 * Ensure that all of the specified insignificant properties exist on the specified bean. If an insignificant
@@ -293,67 +356,32 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
 	}
 
 	/**
-	 * <p>
 	 * Verify that the equals logic implemented by the type the specified factory creates is affected in the expected
-	 * manner when changes are made to the value of the specified property. <br>
-	 * </p>
+	 * manner when the specified property is changed to a value created by the specified property Factory. This is
+	 * called by {@link #verifyEqualsMethod(EquivalentFactory, Configuration, String...)} for each property to verify.
 	 * 
-	 * <p>
-	 * That is:
-	 * </p>
-	 * 
-	 * <ul>
-	 * <li>the equality of an object should not be affected by properties that are changed, but are not considered in
-	 * the equality logic</li>
-	 * 
-	 * <li>the equality of an object should be affected by properties that are changed and are considered in the
-	 * equality logic</li>
-	 * </ul>
-	 * 
-	 * <p>
-	 * To do this, instances of the type are created using the specified factory, the specified property is manipulated
-	 * and the equality is reassessed. <br>
-	 * </p>
-	 * 
-	 * <p>
-	 * For the test to function correctly, you must specify whether the property is used in the equals logic. <br>
-	 * </p>
-	 * 
-	 * <p>
-	 * If the test fails, an AssertionError is thrown.
-	 * </p>
-	 * 
-	 * @param beanInformation
-	 *            Information about the bean the property belongs to.
 	 * @param factory
 	 *            An EquivalentFactory that creates non-null logically equivalent objects that will be used to test the
-	 *            equals logic. The factory must create logically equivalent but different actual instances of the type
-	 *            upon each invocation of <code>create()</code> in order for the test to be meaningful.
-	 * @param configuration
-	 *            A custom Configuration to be used when testing to ignore the testing of named properties or use a
-	 *            custom test data Factory when testing a named property. This Configuration is only used for this
-	 *            individual test and will not be retained for future testing of this or any other type. If no custom
-	 *            Configuration is required, pass <code>null</code>.
+	 *            equals logic.
 	 * @param property
 	 *            The property to test.
+	 * @param propertyFactory
+	 *            The Factory that creates the changed value of the property.
 	 * @param significant
 	 *            Set to <code>true</code> if the property is used when deciding whether objects are logically
 	 *            equivalent; set to <code>false</code> if the property is not used when deciding whether objects are
 	 *            logically equivalent.
 	 * 
 	 * @throws IllegalArgumentException
-	 *             If any of the parameters are deemed illegal. For example, if any are <code>null</code> (except
-	 *             configuration, which can be <code>null</code>).
-	 * @throws BeanInformationException
-	 *             If a problem occurs when trying to obtain information about the type to test.
+	 *             If the factory does not create logically equivalent objects with the same property values.
 	 * @throws BeanTestException
 	 *             If a problem occurs when testing the property, such as an inability to read or write the property.
 	 * @throws AssertionError
 	 *             If the test fails.
 	 */
-	protected void verifyEqualsMethodForProperty(BeanInformation beanInformation, EquivalentFactory<?> factory,
-	        Configuration configuration, PropertyInformation property, boolean significant)
-	        throws IllegalArgumentException, BeanInformationException, BeanTestException, AssertionError {
+	protected void verifyEqualsMethodForProperty(EquivalentFactory<?> factory, PropertyInformation property,
+			Factory<?> propertyFactory, boolean significant) throws IllegalArgumentException, BeanTestException,
+			AssertionError {
 		String propertyName = property.getName();
 		Object originalObj = factory.create();
 		Object modifiedObj = factory.create();
@@ -362,17 +390,17 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
 			throw new IllegalArgumentException(message);
 		}
 		try {
-			Object xOriginalValue = property.getReadMethod().invoke(originalObj);
-			Object originalVal = property.getReadMethod().invoke(modifiedObj);
+			PropertyAccessor accessor = property.getAccessor();
+			Object xOriginalValue = accessor.read(originalObj);
+			Object originalVal = accessor.read(modifiedObj);
 			ValidationHelper.ensureExists("factory-created object." + propertyName, "test equals", xOriginalValue);
 			ValidationHelper.ensureExists("factory-created object." + propertyName, "test equals", originalVal);
 			if (!originalVal.equals(xOriginalValue)) {
 				String message = "Cannot test equals if factory does not create objects with same property values.";
 				throw new IllegalArgumentException(message);
 			}
-			Factory<?> propertyFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
 			Object newVal = propertyFactory.create();
-			property.getWriteMethod().invoke(modifiedObj, newVal);
+			accessor.write(modifiedObj, newVal);
 			if (significant) {
 				significantAsserter.assertConsistent(propertyName, originalObj, modifiedObj, originalVal, newVal);
 			} else {
@@ -382,11 +410,13 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
 			if (e instanceof IllegalArgumentException) {
 				throw (IllegalArgumentException) e; // re-throw without wrapping
 			}
-			String message =
-			        "Failed to test property [" + property.getName() + "] due to Exception [" + e.getClass().getName()
-			                + "]: [" + e.getMessage() + "].";
-			throw new BeanTestException(message, e);
+			throw new BeanTestException(failedToTestPropertyMessage(property, e), e);
 		}
 	}
 
+	private static String failedToTestPropertyMessage(PropertyInformation property, Exception e) {
+		return "Failed to test property [" + property.getName() + "] due to Exception [" + e.getClass().getName()
+				+ "]: [" + e.getMessage() + "].";
+	}
+
 }
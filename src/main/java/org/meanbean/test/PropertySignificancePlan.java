@@ -0,0 +1,80 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.lang.Factory;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable plan for verifying the property significance of the equals logic of a bean type with a given Configuration
+ * and set of insignificant properties. Bean information, insignificant property validation, property filtering and
+ * value Factory lookup are done once when the plan is compiled, so that each iteration only has to create objects,
+ * change one property and compare them.
+ * 
+ * @see PropertyBasedEqualsMethodPropertySignificanceVerifier#compile(org.meanbean.lang.EquivalentFactory,
+ *      Configuration, String...)
+ */
+final class PropertySignificancePlan {
+
+	/** The properties to verify, in bean information order. */
+	private final List<PropertyCheck> propertyChecks;
+
+	PropertySignificancePlan(List<PropertyCheck> propertyChecks) {
+		this.propertyChecks = Collections.unmodifiableList(propertyChecks);
+	}
+
+	List<PropertyCheck> getPropertyChecks() {
+		return propertyChecks;
+	}
+
+	/**
+	 * A property to verify, with the Factory used to create its changed value and whether it is significant.
+	 */
+	static final class PropertyCheck {
+
+		private final PropertyInformation property;
+
+		private final Factory<?> valueFactory;
+
+		private final boolean significant;
+
+		PropertyCheck(PropertyInformation property, Factory<?> valueFactory, boolean significant) {
+			this.property = property;
+			this.valueFactory = valueFactory;
+			this.significant = significant;
+		}
+
+		PropertyInformation getProperty() {
+			return property;
+		}
+
+		Factory<?> getValueFactory() {
+			return valueFactory;
+		}
+
+		boolean isSignificant() {
+			return significant;
+		}
+	}
+}
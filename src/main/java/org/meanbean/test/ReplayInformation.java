@@ -0,0 +1,68 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+/**
+ * Added by BeanTester as a suppressed exception to a failure of a seeded test iteration, to report the seed and
+ * iteration that reproduce the failure.
+ * 
+ * @see VerifierSettings#replayIteration(long, int)
+ * @see ConfigurationBuilder#replayIteration(long, int)
+ */
+public class ReplayInformation extends RuntimeException {
+
+	/** Unique version ID of this Serializable class. */
+	private static final long serialVersionUID = 1L;
+
+	/** The seed of the bean whose test failed. */
+	private final long seed;
+
+	/** The index of the iteration that failed. */
+	private final int iteration;
+
+	/**
+	 * Construct new Replay Information for the specified seed and iteration.
+	 * 
+	 * @param seed
+	 *            The seed of the bean whose test failed.
+	 * @param iteration
+	 *            The index of the iteration that failed.
+	 */
+	public ReplayInformation(long seed, int iteration) {
+		super("Replay with seed [" + seed + "] and iteration [" + iteration + "].", null, false, false);
+		this.seed = seed;
+		this.iteration = iteration;
+	}
+
+	/**
+	 * @return The seed of the bean whose test failed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return The index of the iteration that failed.
+	 */
+	public int getIteration() {
+		return iteration;
+	}
+}
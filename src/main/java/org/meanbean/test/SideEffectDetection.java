@@ -0,0 +1,108 @@
+package org.meanbean.test;
+
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
+
+/**
+ * Decides in which test iterations {@link BeanVerifier#verifyGettersAndSetters()} checks whether setters have
+ * side-effects on other properties. Checking every iteration is thorough but, for beans with many properties, by far
+ * the most expensive part of the test; since properties are tested in a new random order each time, a few checked
+ * iterations usually find the same side-effects.
+ * 
+ * <pre>
+ *   BeanVerifier.forClass(WideBean.class)
+ *       .withSettings(settings -&gt; settings.setSideEffectDetection(SideEffectDetection.firstIterations(2)))
+ *       .verifyGettersAndSetters();
+ * </pre>
+ * 
+ * @see Warning#SETTER_SIDE_EFFECT to disable side-effect detection altogether
+ */
+public final class SideEffectDetection {
+
+	private enum Mode {
+		FULL, FIRST_ITERATIONS, EVERY_NTH_ITERATION, SAMPLED
+	}
+
+	private static final SideEffectDetection FULL = new SideEffectDetection(Mode.FULL, 0, 1.0);
+
+	private final Mode mode;
+
+	private final int iterations;
+
+	private final double probability;
+
+	private SideEffectDetection(Mode mode, int iterations, double probability) {
+		this.mode = mode;
+		this.iterations = iterations;
+		this.probability = probability;
+	}
+
+	/**
+	 * Detect side-effects in every iteration. This is the default.
+	 */
+	public static SideEffectDetection full() {
+		return FULL;
+	}
+
+	/**
+	 * Detect side-effects in the first count iterations only.
+	 */
+	public static SideEffectDetection firstIterations(int count) {
+		ValidationHelper.ensure(count >= 1, "Count must be at least 1.");
+		return new SideEffectDetection(Mode.FIRST_ITERATIONS, count, 1.0);
+	}
+
+	/**
+	 * Detect side-effects in the first iteration and every nth iteration after it.
+	 */
+	public static SideEffectDetection everyNthIteration(int n) {
+		ValidationHelper.ensure(n >= 1, "N must be at least 1.");
+		return new SideEffectDetection(Mode.EVERY_NTH_ITERATION, n, 1.0);
+	}
+
+	/**
+	 * Detect side-effects in each iteration with the given probability, using the configured
+	 * {@link RandomValueGenerator}.
+	 */
+	public static SideEffectDetection sampled(double probability) {
+		ValidationHelper.ensure(probability > 0.0 && probability <= 1.0, "Probability must be in (0, 1].");
+		return new SideEffectDetection(Mode.SAMPLED, 0, probability);
+	}
+
+	/**
+	 * Should side-effects be detected in the specified iteration?
+	 * 
+	 * @param iteration
+	 *            The zero-based index of the test iteration.
+	 * @param randomValueGenerator
+	 *            The source of randomness for sampled detection.
+	 * 
+	 * @return <code>true</code> if side-effects should be detected; <code>false</code> otherwise.
+	 */
+	public boolean isDetectedIn(int iteration, RandomValueGenerator randomValueGenerator) {
+		switch (mode) {
+		case FIRST_ITERATIONS:
+			return iteration < iterations;
+		case EVERY_NTH_ITERATION:
+			return iteration % iterations == 0;
+		case SAMPLED:
+			return randomValueGenerator.nextDouble() < probability;
+		default:
+			return true;
+		}
+	}
+
+	@Override
+	public String toString() {
+		switch (mode) {
+		case FIRST_ITERATIONS:
+			return "SideEffectDetection[firstIterations=" + iterations + "]";
+		case EVERY_NTH_ITERATION:
+			return "SideEffectDetection[everyNthIteration=" + iterations + "]";
+		case SAMPLED:
+			return "SideEffectDetection[sampled=" + probability + "]";
+		default:
+			return "SideEffectDetection[full]";
+		}
+	}
+}
@@ -47,8 +47,27 @@ public interface VerifierSettings {
 	 */
 	VerifierSettings setDefaultIterations(int iterations);
 
+	int getIterationParallelism();
+
+	/**
+	 * Set the number of worker threads the iterations of a single bean are spread across
+	 */
+	VerifierSettings setIterationParallelism(int iterationParallelism);
+
     VerifierSettingsEditor suppressWarning(Warning warning);
 
+	/**
+	 * Set the iterations in which setter side-effects are detected. Side-effects are detected in every iteration by
+	 * default.
+	 */
+	VerifierSettingsEditor setSideEffectDetection(SideEffectDetection sideEffectDetection);
+
+	/**
+	 * Run only the specified test iteration, generating its test values from the specified seed. Use the seed and
+	 * iteration reported by a failed test to reproduce it.
+	 */
+	VerifierSettingsEditor replayIteration(long seed, int iteration);
+
     /**
      * Mark the specified property as one to be disregarded/ignored during testing.
      */
@@ -46,6 +46,12 @@ public interface VerifierSettingsEditor extends VerifierSettings {
 	@Override
 	VerifierSettingsEditor setDefaultIterations(int iterations);
 
+	/**
+	 * Set the number of worker threads the iterations of a single bean are spread across
+	 */
+	@Override
+	VerifierSettingsEditor setIterationParallelism(int iterationParallelism);
+
 	/**
 	 * Mark the specified property as one to be disregarded/ignored during testing.
 	 */
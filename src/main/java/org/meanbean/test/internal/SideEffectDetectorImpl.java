@@ -6,9 +6,10 @@ import org.meanbean.logging.$Logger;
 import org.meanbean.logging.$LoggerFactory;
 import org.meanbean.test.BeanTestException;
 import org.meanbean.util.AssertionUtils;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ScopedRandomValueGenerator;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -17,28 +18,44 @@ import java.util.TreeMap;
 public class SideEffectDetectorImpl implements SideEffectDetector {
 
     private static final $Logger logger = $LoggerFactory.getLogger(SideEffectDetectorImpl.class);
+
+    // shuffles with the generator of the test iteration, so that a replayed iteration tests properties in the same order
+    private final RandomValueGenerator randomValueGenerator =
+            new ScopedRandomValueGenerator(RandomValueGenerator.getInstance());
     
     private Object bean;
-    private List<PropertyInformation> readableWritableProperties;
+    private PropertyInformation[] properties;
 
-    private Map<PropertyInformation, EqualityTest> equalityTestsByProperty = new HashMap<>();
-    private PropertyInformation propertyUnderTest;
-    private Map<String, Object> beforeValues;
+    // values of all properties before and after the property under test was tested, indexed like properties.
+    // The values after testing one property are the values before testing the next, so they are read only once.
+    private Object[] beforeValues;
+    private Object[] afterValues;
+    private int indexUnderTest = -1;
 
     @Override
     public List<PropertyInformation> init(Object bean, List<PropertyInformation> readableWritableProperties) {
         this.bean = bean;
-        this.readableWritableProperties = readableWritableProperties;
 
-        Collections.shuffle(readableWritableProperties); // shuffle to detect ordering side-effects
+        shuffle(readableWritableProperties); // shuffle to detect ordering side-effects
+        this.properties = readableWritableProperties.toArray(new PropertyInformation[0]);
+        this.beforeValues = null;
+        this.afterValues = new Object[properties.length];
+        this.indexUnderTest = -1;
         return readableWritableProperties;
     }
 
     @Override
     public void beforeTestProperty(PropertyInformation property, EqualityTest equalityTest) {
-        propertyUnderTest = property;
-        equalityTestsByProperty.put(property, equalityTest);
-        beforeValues = saveValues();
+        indexUnderTest = indexOf(property, indexUnderTest + 1);
+        if (beforeValues == null) {
+            beforeValues = new Object[properties.length];
+            saveValues(beforeValues);
+        } else {
+            // nothing has touched the bean since the last property was tested
+            Object[] lastAfterValues = afterValues;
+            afterValues = beforeValues;
+            beforeValues = lastAfterValues;
+        }
     }
 
     /**
@@ -46,38 +63,52 @@ public class SideEffectDetectorImpl implements SideEffectDetector {
      */
     @Override
     public void detectAfterTestProperty() {
-        Map<String, Object> afterValues = saveValues();
-
-        // ignore value set by the property just tested.
-        beforeValues.remove(propertyUnderTest.getName());
-        afterValues.remove(propertyUnderTest.getName());
-
-        for (Map.Entry<String, Object> beforeEntry : beforeValues.entrySet()) {
-            String otherProperty = beforeEntry.getKey();
+        saveValues(afterValues);
 
-            Object beforeValue = beforeEntry.getValue();
-            Object afterValue = afterValues.get(otherProperty);
+        for (int idx = 0; idx < properties.length; idx++) {
+            // ignore value set by the property just tested.
+            if (idx == indexUnderTest) {
+                continue;
+            }
+            Object beforeValue = beforeValues[idx];
+            Object afterValue = afterValues[idx];
 
-            EqualityTest equalityTest = equalityTestsByProperty.getOrDefault(otherProperty, EqualityTest.LOGICAL);
-            if (beforeValue != null && !equalityTest.test(beforeValue, afterValue)) {
+            if (beforeValue != null && !EqualityTest.LOGICAL.test(beforeValue, afterValue)) {
                 if (logger.isDebugEnabled()) {
-                    logger.debug("Side-effect detected.\nBefore={}\nAfter={}", beforeValues, afterValues);
+                    logger.debug("Side-effect detected.\nBefore={}\nAfter={}", describe(beforeValues), describe(afterValues));
                 }
                 String message = String
                         .format("Property [%s] appears to have a side-effect on another property [%s]",
-                        propertyUnderTest.getName(), otherProperty);
+                        properties[indexUnderTest].getName(), properties[idx].getName());
                 AssertionUtils.fail(message);
             }
         }
     }
 
-    private Map<String, Object> saveValues() {
+    private void shuffle(List<PropertyInformation> properties) {
+        for (int idx = properties.size(); idx > 1; idx--) {
+            Collections.swap(properties, idx - 1, randomValueGenerator.nextInt(idx));
+        }
+    }
+
+    private int indexOf(PropertyInformation property, int expectedIndex) {
+        // properties are normally tested in the order returned by init
+        if (expectedIndex < properties.length && properties[expectedIndex] == property) {
+            return expectedIndex;
+        }
+        for (int idx = 0; idx < properties.length; idx++) {
+            if (properties[idx] == property) {
+                return idx;
+            }
+        }
+        throw new IllegalArgumentException("Property [" + property.getName() + "] was not passed to init.");
+    }
 
-        Map<String, Object> values = new TreeMap<>();
-        for (PropertyInformation property : readableWritableProperties) {
+    private void saveValues(Object[] values) {
+        for (int idx = 0; idx < properties.length; idx++) {
+            PropertyInformation property = properties[idx];
             try {
-                Object value = property.getReadMethod().invoke(bean);
-                values.put(property.getName(), value);
+                values[idx] = property.getAccessor().read(bean);
             } catch (Exception e) {
                 String propertyName = property.getName();
                 String message = "Failed to test property [" + propertyName + "] due to Exception [" + e.getClass().getName()
@@ -85,6 +116,15 @@ public class SideEffectDetectorImpl implements SideEffectDetector {
                 throw new BeanTestException(message, e);
             }
         }
-        return values;
     }
-}
\ No newline at end of file
+
+    private Map<String, Object> describe(Object[] values) {
+        Map<String, Object> valuesByName = new TreeMap<>();
+        for (int idx = 0; idx < properties.length; idx++) {
+            if (idx != indexUnderTest) {
+                valuesByName.put(properties[idx].getName(), values[idx]);
+            }
+        }
+        return valuesByName;
+    }
+}
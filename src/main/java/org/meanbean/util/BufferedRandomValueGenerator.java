@@ -0,0 +1,289 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>
+ * RandomValueGenerator that serves values from a reusable per-thread block of random longs, refilled from a
+ * {@link SplittableRandom} only when the block is used up. Single values are taken from the block without allocating,
+ * and bytes and booleans are cut from a word 8 bits and 1 bit at a time.
+ * </p>
+ * 
+ * <p>
+ * Seeding the current thread with {@link #setSeed(long)} discards the values left in its block, so the values that
+ * follow depend only on the seed. The block itself is kept and refilled from the seeded source.
+ * </p>
+ * 
+ * <p>
+ * This generator is not registered as a service, so it never replaces the default RandomValueGenerator. Select it
+ * explicitly, for example with {@link org.meanbean.test.VerifierSettings#setRandomValueGenerator(RandomValueGenerator)}.
+ * </p>
+ */
+public class BufferedRandomValueGenerator implements RandomValueGenerator {
+
+	/** Default number of longs generated into each block. */
+	public static final int DEFAULT_BLOCK_SIZE = 256;
+
+	private final int blockSize;
+
+	/** The block of the current thread. */
+	private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(this::newBlock);
+
+	/**
+	 * Construct a new BufferedRandomValueGenerator with the default block size.
+	 */
+	public BufferedRandomValueGenerator() {
+		this(DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Construct a new BufferedRandomValueGenerator.
+	 * 
+	 * @param blockSize
+	 *            The number of longs generated into each block.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the blockSize parameter is deemed illegal. For example, if it is less than 1.
+	 */
+	public BufferedRandomValueGenerator(int blockSize) throws IllegalArgumentException {
+		ValidationHelper.ensure(blockSize >= 1, "Block size must be at least 1.");
+		this.blockSize = blockSize;
+	}
+
+	/**
+	 * Generate a random byte.
+	 * 
+	 * @return A randomly generated byte, which may be positive or negative.
+	 */
+	@Override
+	public byte nextByte() {
+		return (byte) blocks.get().nextBits(Byte.SIZE);
+	}
+
+	/**
+	 * Generate a random array of bytes.
+	 * 
+	 * @param size
+	 *            The number of bytes to generate and return. This cannot be a negative number.
+	 * 
+	 * @return An array of <i>size</i> randomly generated bytes, each of which may be positive or negative.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the size parameter is deemed illegal. For example, if it is a negative number.
+	 */
+	@Override
+	public byte[] nextBytes(int size) throws IllegalArgumentException {
+		if (size < 0) {
+			throw new IllegalArgumentException("Cannot generate a random array of bytes of negative length.");
+		}
+		Block block = blocks.get();
+		byte[] bytes = new byte[size];
+		for (int idx = 0; idx < size; idx++) {
+			bytes[idx] = (byte) block.nextBits(Byte.SIZE);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Generate a random int.
+	 * 
+	 * @return A randomly generated int, which may be positive or negative.
+	 */
+	@Override
+	public int nextInt() {
+		return (int) blocks.get().nextBits(Integer.SIZE);
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		Block block = blocks.get();
+		int mask = bound - 1;
+		if ((bound & mask) == 0) {
+			return (int) block.nextBits(Integer.SIZE) & mask;
+		}
+		// reject the values that would make the result biased, as Random.nextInt(int) does
+		int bits;
+		int value;
+		do {
+			bits = (int) block.nextBits(Integer.SIZE - 1);
+			value = bits % bound;
+		} while (bits - value + mask < 0);
+		return value;
+	}
+
+	/**
+	 * Generate a random long.
+	 * 
+	 * @return A randomly generated long, which may be positive or negative.
+	 */
+	@Override
+	public long nextLong() {
+		return blocks.get().nextWord();
+	}
+
+	/**
+	 * Generate a random float between 0.0f (inclusive) and 1.0f (exclusive).
+	 * 
+	 * @return A randomly generated float.
+	 */
+	@Override
+	public float nextFloat() {
+		return blocks.get().nextBits(24) * 0x1.0p-24f;
+	}
+
+	/**
+	 * Generate a random double between 0.0d (inclusive) and 1.0d (exclusive).
+	 * 
+	 * @return A randomly generated double.
+	 */
+	@Override
+	public double nextDouble() {
+		return (blocks.get().nextWord() >>> 11) * 0x1.0p-53;
+	}
+
+	/**
+	 * Generate a random boolean.
+	 * 
+	 * @return A randomly generated boolean.
+	 */
+	@Override
+	public boolean nextBoolean() {
+		return blocks.get().nextBits(1) != 0;
+	}
+
+	@Override
+	public void nextInts(int[] values) {
+		Block block = blocks.get();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = (int) block.nextBits(Integer.SIZE);
+		}
+	}
+
+	@Override
+	public void nextLongs(long[] values) {
+		Block block = blocks.get();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = block.nextWord();
+		}
+	}
+
+	@Override
+	public void nextDoubles(double[] values) {
+		Block block = blocks.get();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = (block.nextWord() >>> 11) * 0x1.0p-53;
+		}
+	}
+
+	@Override
+	public void nextBooleans(boolean[] values) {
+		Block block = blocks.get();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = block.nextBits(1) != 0;
+		}
+	}
+
+	/**
+	 * Generate values on the current thread from a new source seeded with the specified seed, discarding any values
+	 * already in its block.
+	 * 
+	 * @return <code>true</code>, as this generator can always be seeded.
+	 */
+	@Override
+	public boolean setSeed(long seed) {
+		blocks.get().reseed(new SplittableRandom(seed));
+		return true;
+	}
+
+	@Override
+	public void clearSeed() {
+		blocks.get().reseed(new SplittableRandom(ThreadLocalRandom.current().nextLong()));
+	}
+
+	private Block newBlock() {
+		return new Block(new SplittableRandom(ThreadLocalRandom.current().nextLong()), blockSize);
+	}
+
+	/**
+	 * A block of random words owned by a single thread, together with the bits left over from the word that small
+	 * values are currently cut from.
+	 */
+	private static final class Block {
+
+		private SplittableRandom source;
+
+		private final long[] words;
+
+		/** Index of the next unused word; words.length once the block is used up. */
+		private int next;
+
+		/** The unused bits of the current word, in the low bitCount bits. */
+		private long bits;
+
+		private int bitCount;
+
+		Block(SplittableRandom source, int blockSize) {
+			this.source = source;
+			this.words = new long[blockSize];
+			this.next = blockSize;
+		}
+
+		/**
+		 * Generate all further values from the specified source, discarding the values left in the block.
+		 */
+		void reseed(SplittableRandom source) {
+			this.source = source;
+			this.next = words.length;
+			this.bits = 0;
+			this.bitCount = 0;
+		}
+
+		long nextWord() {
+			if (next == words.length) {
+				for (int idx = 0; idx < words.length; idx++) {
+					words[idx] = source.nextLong();
+				}
+				next = 0;
+			}
+			return words[next++];
+		}
+
+		/**
+		 * @return The specified number of random bits, at most 32, in the low bits of the result.
+		 */
+		long nextBits(int count) {
+			if (bitCount < count) {
+				bits = nextWord();
+				bitCount = Long.SIZE;
+			}
+			long result = bits & ((1L << count) - 1);
+			bits >>>= count;
+			bitCount -= count;
+			return result;
+		}
+	}
+}
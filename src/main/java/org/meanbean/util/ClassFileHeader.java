@@ -0,0 +1,130 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The parts of a class file needed to decide whether a class is a candidate bean, read directly from its bytes so that
+ * classes can be discarded without being loaded.
+ * 
+ * <p>
+ * A candidate bean is a class that is neither an interface (including annotation types) nor abstract, the same check
+ * that is made on classes once they are loaded. Classes without a no-arg constructor are candidates, as they may still
+ * be instantiated through a registered Factory.
+ * </p>
+ */
+final class ClassFileHeader {
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final int ACC_INTERFACE = 0x0200;
+
+	private static final int ACC_ABSTRACT = 0x0400;
+
+	private final int accessFlags;
+
+	private ClassFileHeader(int accessFlags) {
+		this.accessFlags = accessFlags;
+	}
+
+	boolean isInterface() {
+		return (accessFlags & ACC_INTERFACE) != 0;
+	}
+
+	boolean isAbstract() {
+		return (accessFlags & ACC_ABSTRACT) != 0;
+	}
+
+	boolean isCandidateBean() {
+		return !isInterface() && !isAbstract();
+	}
+
+	/**
+	 * Read the header of the class file in the given stream, reading no further than needed. The stream is not closed.
+	 * 
+	 * @throws IOException
+	 *             If the stream cannot be read or does not contain a well-formed class file.
+	 */
+	static ClassFileHeader read(InputStream classFile) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(classFile));
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		in.readUnsignedShort(); // minor_version
+		in.readUnsignedShort(); // major_version
+		int constantPoolCount = in.readUnsignedShort();
+		for (int idx = 1; idx < constantPoolCount; idx++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+			case 1: // Utf8
+				skip(in, in.readUnsignedShort());
+				break;
+			case 7: // Class
+			case 8: // String
+			case 16: // MethodType
+			case 19: // Module
+			case 20: // Package
+				skip(in, 2);
+				break;
+			case 15: // MethodHandle
+				skip(in, 3);
+				break;
+			case 3: // Integer
+			case 4: // Float
+			case 9: // Fieldref
+			case 10: // Methodref
+			case 11: // InterfaceMethodref
+			case 12: // NameAndType
+			case 17: // Dynamic
+			case 18: // InvokeDynamic
+				skip(in, 4);
+				break;
+			case 5: // Long
+			case 6: // Double
+				skip(in, 8);
+				idx++; // takes two constant pool entries
+				break;
+			default:
+				throw new IOException("Unknown constant pool tag " + tag);
+			}
+		}
+		return new ClassFileHeader(in.readUnsignedShort());
+	}
+
+	private static void skip(DataInputStream in, long count) throws IOException {
+		long remaining = count;
+		while (remaining > 0) {
+			long skipped = in.skip(remaining);
+			if (skipped <= 0) {
+				if (in.read() < 0) {
+					throw new EOFException();
+				}
+				skipped = 1;
+			}
+			remaining -= skipped;
+		}
+	}
+}
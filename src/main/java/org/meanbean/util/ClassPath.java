@@ -33,6 +33,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
@@ -95,23 +100,72 @@ public final class ClassPath {
 	 *     failed.
 	 */
 	public static ClassPath from(ClassLoader classloader) throws IOException {
-		DefaultScanner scanner = new DefaultScanner();
+		return from(classloader, null, 1);
+	}
+
+	/**
+	 * As {@link #from(ClassLoader)}, reusing the contents of unchanged jar files recorded in the given index, which may
+	 * be <code>null</code>, and reading up to the given number of class path entries concurrently.
+	 */
+	static ClassPath from(ClassLoader classloader, ClassPathIndex index, int parallelism) throws IOException {
+		return scan(classloader, index, parallelism, "");
+	}
+
+	/**
+	 * As {@link #from(ClassLoader, ClassPathIndex, int)}, but only including the resources in package
+	 * {@code packageName} and its subpackages. Only the matching subtrees of directories are traversed
+	 * and non-matching jar entries are skipped, so the cost of the scan depends on the size of the
+	 * package rather than the size of the class path.
+	 */
+	static ClassPath fromPackage(ClassLoader classloader, String packageName, ClassPathIndex index, int parallelism)
+			throws IOException {
+		checkNotNull(packageName);
+		return scan(classloader, index, parallelism, packageName.replace('.', '/') + '/');
+	}
+
+	private static ClassPath scan(ClassLoader classloader, ClassPathIndex index, int parallelism,
+			String resourcePrefix) throws IOException {
+		DefaultScanner scanner = new DefaultScanner(index, parallelism, resourcePrefix);
 		scanner.scan(classloader);
 		return new ClassPath(scanner.getResources());
 	}
 
     public static ClassPath from(Class<?> clazz) {
+        return from(clazz, null, 1);
+    }
+
+    /**
+     * As {@link #from(Class)}, reusing the contents of unchanged jar files recorded in the given index, which may be
+     * <code>null</code>, and reading up to the given number of class path entries concurrently.
+     */
+    static ClassPath from(Class<?> clazz, ClassPathIndex index, int parallelism) {
         try {
-            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-            if (classLoader == null) {
-                classLoader = clazz.getClassLoader();
-            }
-            return ClassPath.from(classLoader);
+            return ClassPath.from(classLoaderOf(clazz), index, parallelism);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * As {@link #from(Class, ClassPathIndex, int)}, but only including the resources in package
+     * {@code packageName} and its subpackages.
+     */
+    static ClassPath fromPackage(Class<?> clazz, String packageName, ClassPathIndex index, int parallelism) {
+        try {
+            return ClassPath.fromPackage(classLoaderOf(clazz), packageName, index, parallelism);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ClassLoader classLoaderOf(Class<?> clazz) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = clazz.getClassLoader();
+        }
+        return classLoader;
+    }
+
 	/**
 	 * Returns all resources loadable from the current class path, including the class files of all
 	 * loadable classes but excluding the "META-INF/MANIFEST.MF" file.
@@ -334,8 +388,12 @@ public final class ClassPath {
 
 	/**
 	 * Abstract class that scans through the class path represented by a {@link ClassLoader} and calls
-	 * {@link #scanDirectory} and {@link #scanJarFile} for directories and jar files on the class path
-	 * respectively.
+	 * {@link #scanResources} for each directory and jar file on the class path.
+	 *
+	 * <p>With a parallelism greater than one, {@link #scan(ClassLoader)} first reads the contents of
+	 * all class path entries (including those reached through manifest {@code Class-Path} attributes)
+	 * concurrently, and then replays the same depth-first traversal as a sequential scan over the
+	 * contents read, so de-duplication and the order of the resources found are unchanged.
 	 */
 	abstract static class Scanner {
 
@@ -343,54 +401,239 @@ public final class ClassPath {
 		// with.
 		private final Set<File> scannedUris = new HashSet<>();
 
+		// Contents of jar files that were indexed by an earlier scan, or null to always read jar files.
+		private final ClassPathIndex index;
+
+		// Number of class path entries read concurrently by scan(ClassLoader).
+		private final int parallelism;
+
+		// Only resources whose names start with this prefix are scanned; empty to scan all resources.
+		private final String resourcePrefix;
+
+		Scanner() {
+			this(null, 1, "");
+		}
+
+		Scanner(ClassPathIndex index, int parallelism, String resourcePrefix) {
+			this.index = index;
+			this.parallelism = parallelism;
+			this.resourcePrefix = resourcePrefix;
+		}
+
 		public final void scan(ClassLoader classloader) throws IOException {
-			for (Entry<File, ClassLoader> entry : getClassPathEntries(classloader).entrySet()) {
-				scan(entry.getKey(), entry.getValue());
+			Map<File, ClassLoader> entries = getClassPathEntries(classloader);
+			if (parallelism <= 1 || entries.size() <= 1) {
+				scan(entries);
+				return;
+			}
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			Map<File, CompletableFuture<EntryContents>> readAhead = new ConcurrentHashMap<>();
+			try {
+				for (File file : entries.keySet()) {
+					readAhead(file, readAhead, pool);
+				}
+				scan(entries, readAhead);
+			} finally {
+				for (CompletableFuture<EntryContents> contents : readAhead.values()) {
+					contents.cancel(false);
+				}
+				pool.shutdownNow();
+			}
+		}
+
+		private void scan(Map<File, ClassLoader> entries) throws IOException {
+			scan(entries, null);
+		}
+
+		private void scan(Map<File, ClassLoader> entries, Map<File, CompletableFuture<EntryContents>> readAhead)
+				throws IOException {
+			for (Entry<File, ClassLoader> entry : entries.entrySet()) {
+				scan(entry.getKey(), entry.getValue(), readAhead);
 			}
 		}
 
 		final void scan(File file, ClassLoader classloader) throws IOException {
+			scan(file, classloader, null);
+		}
+
+		/**
+		 * Scans the given directory or jar file, taking its contents from {@code readAhead} when they
+		 * are being read ahead of the traversal, or reading them as it is traversed when that is null.
+		 */
+		private void scan(File file, ClassLoader classloader,
+				Map<File, CompletableFuture<EntryContents>> readAhead) throws IOException {
 			if (scannedUris.add(file.getCanonicalFile())) {
-				scanFrom(file, classloader);
+				scanFrom(file, classloader, readAhead);
 			}
 		}
 
-		/** Called when a directory is scanned for resource files. */
-		protected abstract void scanDirectory(ClassLoader loader, File directory) throws IOException;
+		/**
+		 * Called when a directory or jar file is scanned, with the names of all its resource files
+		 * except the manifest.
+		 */
+		protected abstract void scanResources(ClassLoader loader, List<String> resourceNames) throws IOException;
+
+		private void readAhead(File file, Map<File, CompletableFuture<EntryContents>> readAhead,
+				ForkJoinPool pool) {
+			if (pool.isShutdown()) {
+				return;
+			}
+			try {
+				readAhead.computeIfAbsent(file, key -> CompletableFuture.supplyAsync(() -> {
+					try {
+						EntryContents contents = read(key);
+						if (contents != null) {
+							for (File path : contents.getManifestClassPath()) {
+								readAhead(path, readAhead, pool);
+							}
+						}
+						return contents;
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}, pool));
+			} catch (RejectedExecutionException e) {
+				// The scan finished while this entry was found, so nothing is waiting for its contents.
+			}
+		}
 
-		/** Called when a jar file is scanned for resource entries. */
-		protected abstract void scanJarFile(ClassLoader loader, JarFile file) throws IOException;
+		private void scanFrom(File file, ClassLoader classloader,
+				Map<File, CompletableFuture<EntryContents>> readAhead) throws IOException {
+			EntryContents contents = readAhead == null ? read(file) : readAheadContents(file, readAhead);
+			if (contents == null) {
+				return;
+			}
+			for (File path : contents.getManifestClassPath()) {
+				scan(path, classloader, readAhead);
+			}
+			scanResources(classloader, contents.getResourceNames());
+		}
 
-		private void scanFrom(File file, ClassLoader classloader) throws IOException {
+		private EntryContents readAheadContents(File file,
+				Map<File, CompletableFuture<EntryContents>> readAhead) throws IOException {
+			CompletableFuture<EntryContents> contents = readAhead.get(file);
+			if (contents == null) {
+				return read(file);
+			}
+			try {
+				return contents.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof UncheckedIOException) {
+					throw ((UncheckedIOException) e.getCause()).getCause();
+				}
+				throw e;
+			}
+		}
+
+		/**
+		 * Reads the contents of the given directory or jar file, or returns {@code null} if it does not
+		 * exist or is neither.
+		 */
+		private EntryContents read(File file) throws IOException {
 			try {
 				if (!file.exists()) {
-					return;
+					return null;
 				}
 			} catch (SecurityException e) {
 				logger.warning("Cannot access " + file + ": " + e);
 				// TODO(emcmanus): consider whether to log other failure cases too.
-				return;
+				return null;
 			}
 			if (file.isDirectory()) {
-				scanDirectory(classloader, file);
-			} else {
-				scanJar(file, classloader);
+				return readDirectory(file, resourcePrefix);
+			}
+			if (index == null) {
+				return readJar(file, resourcePrefix);
 			}
+			// the index records all entries of a jar, so that it can be shared by scans of any package
+			EntryContents contents = index.get(file);
+			if (contents == null) {
+				contents = readJar(file, "");
+				if (contents != null) {
+					index.put(file, contents);
+				}
+			}
+			return contents == null ? null : contents.withResourcePrefix(resourcePrefix);
 		}
 
-		private void scanJar(File file, ClassLoader classloader) throws IOException {
+		/**
+		 * Reads the names of the resources in the given directory that start with the given prefix.
+		 * Only subdirectories that can contain such resources are traversed.
+		 */
+		static EntryContents readDirectory(File directory, String resourcePrefix) throws IOException {
+			Set<File> currentPath = new HashSet<>();
+			currentPath.add(directory.getCanonicalFile());
+			List<String> resourceNames = new ArrayList<>();
+			readDirectory(directory, "", resourcePrefix, currentPath, resourceNames);
+			return new EntryContents(Collections.emptyList(), resourceNames);
+		}
+
+		/**
+		 * Recursively scan the given directory, adding resources for each file encountered. Symlinks
+		 * which have already been traversed in the current tree path will be skipped to eliminate
+		 * cycles; otherwise symlinks are traversed.
+		 *
+		 * @param directory the root of the directory to scan
+		 * @param packagePrefix resource path prefix for any files found under {@code directory}
+		 * @param resourcePrefix prefix of the resource names to include
+		 * @param currentPath canonical files already visited in the current directory tree path, for
+		 *     cycle elimination
+		 * @param resourceNames the resource names found so far
+		 */
+		private static void readDirectory(File directory, String packagePrefix, String resourcePrefix,
+				Set<File> currentPath, List<String> resourceNames) throws IOException {
+			File[] files = directory.listFiles();
+			if (files == null) {
+				logger.warning("Cannot read directory " + directory);
+				// IO error, just skip the directory
+				return;
+			}
+			for (File f : files) {
+				String name = f.getName();
+				if (f.isDirectory()) {
+					String subdirectoryPrefix = packagePrefix + name + "/";
+					if (!subdirectoryPrefix.startsWith(resourcePrefix) && !resourcePrefix.startsWith(subdirectoryPrefix)) {
+						continue;
+					}
+					File deref = f.getCanonicalFile();
+					if (currentPath.add(deref)) {
+						readDirectory(deref, subdirectoryPrefix, resourcePrefix, currentPath, resourceNames);
+						currentPath.remove(deref);
+					}
+				} else {
+					String resourceName = packagePrefix + name;
+					if (resourceName.startsWith(resourcePrefix) && !resourceName.equals(JarFile.MANIFEST_NAME)) {
+						resourceNames.add(resourceName);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Reads the manifest class path and the names of the resource entries starting with the given
+		 * prefix of the given jar file, or returns {@code null} if the file is not a jar file.
+		 */
+		static EntryContents readJar(File file, String resourcePrefix) throws IOException {
 			JarFile jarFile;
 			try {
-				jarFile = new JarFile(file);
+				// only the central directory and manifest are read, so there are no signatures to verify
+				jarFile = new JarFile(file, false);
 			} catch (IOException e) {
-				// Not a jar file
-				return;
+				return null;
 			}
 			try {
-				for (File path : getClassPathFromManifest(file, jarFile.getManifest())) {
-					scan(path, classloader);
+				List<String> resourceNames = new ArrayList<>();
+				Enumeration<JarEntry> entries = jarFile.entries();
+				while (entries.hasMoreElements()) {
+					JarEntry entry = entries.nextElement();
+					String name = entry.getName();
+					if (entry.isDirectory() || !name.startsWith(resourcePrefix) || name.equals(JarFile.MANIFEST_NAME)) {
+						continue;
+					}
+					resourceNames.add(name);
 				}
-				scanJarFile(classloader, jarFile);
+				return new EntryContents(
+						new ArrayList<>(getClassPathFromManifest(file, jarFile.getManifest())), resourceNames);
 			} finally {
 				try {
 					jarFile.close();
@@ -507,9 +750,47 @@ public final class ClassPath {
 		}
 	}
 
+	/**
+	 * The manifest class path and resource names of a directory or jar file.
+	 */
+	static final class EntryContents {
+		private final List<File> manifestClassPath;
+		private final List<String> resourceNames;
+
+		EntryContents(List<File> manifestClassPath, List<String> resourceNames) {
+			this.manifestClassPath = Collections.unmodifiableList(manifestClassPath);
+			this.resourceNames = Collections.unmodifiableList(resourceNames);
+		}
+
+		List<File> getManifestClassPath() {
+			return manifestClassPath;
+		}
+
+		List<String> getResourceNames() {
+			return resourceNames;
+		}
+
+		EntryContents withResourcePrefix(String resourcePrefix) {
+			if (resourcePrefix.isEmpty()) {
+				return this;
+			}
+			List<String> matchingNames = resourceNames.stream()
+					.filter(name -> name.startsWith(resourcePrefix))
+					.collect(Collectors.toList());
+			return new EntryContents(manifestClassPath, matchingNames);
+		}
+	}
+
 	static final class DefaultScanner extends Scanner {
 		private final Map<ClassLoader, LinkedHashSet<String>> resources = new LinkedHashMap<>();
 
+		DefaultScanner() {
+		}
+
+		DefaultScanner(ClassPathIndex index, int parallelism, String resourcePrefix) {
+			super(index, parallelism, resourcePrefix);
+		}
+
 		Set<ResourceInfo> getResources() {
 			Set<ResourceInfo> set = new LinkedHashSet<>();
 			for (Entry<ClassLoader, LinkedHashSet<String>> entry : resources.entrySet()) {
@@ -521,66 +802,14 @@ public final class ClassPath {
 		}
 
 		@Override
-		protected void scanJarFile(ClassLoader classloader, JarFile file) {
-			Enumeration<JarEntry> entries = file.entries();
-			while (entries.hasMoreElements()) {
-				JarEntry entry = entries.nextElement();
-				if (entry.isDirectory() || entry.getName().equals(JarFile.MANIFEST_NAME)) {
-					continue;
-				}
-				resourcesGet(classloader).add(entry.getName());
-			}
+		protected void scanResources(ClassLoader classloader, List<String> resourceNames) {
+			resourcesGet(classloader).addAll(resourceNames);
 		}
 
 		private LinkedHashSet<String> resourcesGet(ClassLoader classloader) {
 			resources.computeIfAbsent(classloader, key -> new LinkedHashSet<>());
 			return resources.get(classloader);
 		}
-
-		@Override
-		protected void scanDirectory(ClassLoader classloader, File directory) throws IOException {
-			Set<File> currentPath = new HashSet<>();
-			currentPath.add(directory.getCanonicalFile());
-			scanDirectory(directory, classloader, "", currentPath);
-		}
-
-		/**
-		 * Recursively scan the given directory, adding resources for each file encountered. Symlinks
-		 * which have already been traversed in the current tree path will be skipped to eliminate
-		 * cycles; otherwise symlinks are traversed.
-		 *
-		 * @param directory the root of the directory to scan
-		 * @param classloader the classloader that includes resources found in {@code directory}
-		 * @param packagePrefix resource path prefix inside {@code classloader} for any files found
-		 *     under {@code directory}
-		 * @param currentPath canonical files already visited in the current directory tree path, for
-		 *     cycle elimination
-		 */
-		private void scanDirectory(
-				File directory, ClassLoader classloader, String packagePrefix, Set<File> currentPath)
-				throws IOException {
-			File[] files = directory.listFiles();
-			if (files == null) {
-				logger.warning("Cannot read directory " + directory);
-				// IO error, just skip the directory
-				return;
-			}
-			for (File f : files) {
-				String name = f.getName();
-				if (f.isDirectory()) {
-					File deref = f.getCanonicalFile();
-					if (currentPath.add(deref)) {
-						scanDirectory(deref, classloader, packagePrefix + name + "/", currentPath);
-						currentPath.remove(deref);
-					}
-				} else {
-					String resourceName = packagePrefix + name;
-					if (!resourceName.equals(JarFile.MANIFEST_NAME)) {
-						resourcesGet(classloader).add(resourceName);
-					}
-				}
-			}
-		}
 	}
 
 	static String getClassName(String filename) {
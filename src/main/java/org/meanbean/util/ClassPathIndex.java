@@ -0,0 +1,150 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
+import org.meanbean.util.ClassPath.EntryContents;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * On-disk index of the contents of scanned jar files, so that unchanged jars do not have to be opened and enumerated
+ * again by later scans, including scans in other JVMs.
+ * 
+ * <p>
+ * Each jar is stored in its own index file, keyed by the jar's canonical path, size and last modification time. A jar
+ * whose size or modification time has changed is scanned again and its index file replaced. Directories are not
+ * indexed, as their contents can change without their own modification time changing.
+ * </p>
+ */
+final class ClassPathIndex {
+
+	private static final $Logger logger = $LoggerFactory.getLogger(ClassPathIndex.class);
+
+	private static final String INDEX_FILE_EXTENSION = ".idx";
+
+	/** The directory index files are stored in. */
+	private final Path directory;
+
+	ClassPathIndex(Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * @return An index stored in the directory named by the given system property, or <code>null</code> if the
+	 *         property is not set.
+	 */
+	static ClassPathIndex fromSystemProperty(String propertyName) {
+		String directory = System.getProperty(propertyName);
+		if (directory == null || directory.trim().isEmpty()) {
+			return null;
+		}
+		return new ClassPathIndex(Paths.get(directory.trim()));
+	}
+
+	/**
+	 * @return The indexed contents of the given jar, or <code>null</code> if the jar has not been indexed yet or has
+	 *         changed since it was indexed.
+	 */
+	EntryContents get(File jar) {
+		try {
+			File canonicalJar = jar.getCanonicalFile();
+			Path indexFile = indexFileFor(canonicalJar);
+			try (BufferedReader reader = Files.newBufferedReader(indexFile, UTF_8)) {
+				if (!canonicalJar.getPath().equals(reader.readLine())
+						|| !String.valueOf(canonicalJar.length()).equals(reader.readLine())
+						|| !String.valueOf(canonicalJar.lastModified()).equals(reader.readLine())) {
+					return null;
+				}
+				int manifestClassPathSize = Integer.parseInt(reader.readLine());
+				List<File> manifestClassPath = new ArrayList<>(manifestClassPathSize);
+				for (int idx = 0; idx < manifestClassPathSize; idx++) {
+					manifestClassPath.add(new File(reader.readLine()));
+				}
+				List<String> resourceNames = new ArrayList<>();
+				for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+					resourceNames.add(line);
+				}
+				return new EntryContents(manifestClassPath, resourceNames);
+			}
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException | RuntimeException e) {
+			logger.warn("Ignoring unreadable class path index entry for [{}]: {}", jar, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Store the contents of the given jar, replacing any previously indexed contents.
+	 */
+	void put(File jar, EntryContents contents) {
+		try {
+			File canonicalJar = jar.getCanonicalFile();
+			Files.createDirectories(directory);
+			Path indexFile = indexFileFor(canonicalJar);
+			Path tempFile = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+			try {
+				try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+					writeLine(writer, canonicalJar.getPath());
+					writeLine(writer, String.valueOf(canonicalJar.length()));
+					writeLine(writer, String.valueOf(canonicalJar.lastModified()));
+					writeLine(writer, String.valueOf(contents.getManifestClassPath().size()));
+					for (File file : contents.getManifestClassPath()) {
+						writeLine(writer, file.getPath());
+					}
+					for (String resourceName : contents.getResourceNames()) {
+						writeLine(writer, resourceName);
+					}
+				}
+				// other JVMs may be reading the index at the same time, so never expose a partially written file
+				Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tempFile);
+			}
+		} catch (IOException | RuntimeException e) {
+			logger.warn("Cannot write class path index entry for [{}]: {}", jar, e);
+		}
+	}
+
+	private Path indexFileFor(File canonicalJar) {
+		String name = canonicalJar.getName() + "-" + Integer.toHexString(canonicalJar.getPath().hashCode());
+		return directory.resolve(name + INDEX_FILE_EXTENSION);
+	}
+
+	private static void writeLine(BufferedWriter writer, String line) throws IOException {
+		writer.write(line);
+		writer.newLine();
+	}
+}
@@ -23,17 +23,42 @@ package org.meanbean.util;
 import org.meanbean.test.BeanVerifier;
 import org.meanbean.util.ClassPath.ClassInfo;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Modifier;
 import java.util.Set;
 
 public final class ClassPathUtils {
 
+	/**
+	 * Name of the system property naming a directory in which the contents of scanned jar files are indexed, so that
+	 * later scans (in this or another JVM) can skip reading jar files that have not changed. No index is kept if the
+	 * property is not set.
+	 */
+	public static final String CLASS_PATH_INDEX_DIRECTORY_PROPERTY = "meanbean.classpath.index.dir";
+
 	public static Class<?>[] findClassesIn(String packageName) {
-		ClassPath classPath = ClassPath.from(BeanVerifier.class);
+		ClassPathIndex index = ClassPathIndex.fromSystemProperty(CLASS_PATH_INDEX_DIRECTORY_PROPERTY);
+		// reading class path entries is bound by I/O latency rather than CPU, so read them concurrently
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		ClassPath classPath = ClassPath.fromPackage(BeanVerifier.class, packageName, index, parallelism);
 		Set<ClassInfo> classInfoSet = classPath.getTopLevelClassesRecursive(packageName);
 		return classInfoSet.stream()
+				.filter(ClassPathUtils::isCandidateBean)
 				.map(ClassInfo::load)
 				.filter(clazz -> !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers()))
 				.toArray(Class<?>[]::new);
 	}
+
+	/**
+	 * Decide from its class file, without loading it, whether the given class could be a bean. Classes whose class
+	 * file cannot be read are assumed to be candidates and are checked once loaded.
+	 */
+	private static boolean isCandidateBean(ClassInfo classInfo) {
+		try (InputStream classFile = classInfo.loader.getResourceAsStream(classInfo.getResourceName())) {
+			return classFile == null || ClassFileHeader.read(classFile).isCandidateBean();
+		} catch (IOException e) {
+			return true;
+		}
+	}
 }
@@ -83,6 +83,73 @@ public interface RandomValueGenerator {
 	 * @return A randomly generated boolean.
 	 */
 	boolean nextBoolean();
+
+	/**
+	 * Fill the specified array with values generated as by {@link #nextInt()}.
+	 * 
+	 * @param values
+	 *            The array to fill.
+	 */
+	default void nextInts(int[] values) {
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = nextInt();
+		}
+	}
+
+	/**
+	 * Fill the specified array with values generated as by {@link #nextLong()}.
+	 * 
+	 * @param values
+	 *            The array to fill.
+	 */
+	default void nextLongs(long[] values) {
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = nextLong();
+		}
+	}
+
+	/**
+	 * Fill the specified array with values generated as by {@link #nextDouble()}.
+	 * 
+	 * @param values
+	 *            The array to fill.
+	 */
+	default void nextDoubles(double[] values) {
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = nextDouble();
+		}
+	}
+
+	/**
+	 * Fill the specified array with values generated as by {@link #nextBoolean()}.
+	 * 
+	 * @param values
+	 *            The array to fill.
+	 */
+	default void nextBooleans(boolean[] values) {
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = nextBoolean();
+		}
+	}
+
+	/**
+	 * Make the values subsequently generated on the calling thread a repeatable function of the specified seed, until
+	 * {@link #clearSeed()} is called on the same thread. Generators that cannot be seeded ignore this call.
+	 * 
+	 * @param seed
+	 *            The seed to generate values from.
+	 * 
+	 * @return <code>true</code> if this generator was seeded; <code>false</code> if it does not support seeding.
+	 */
+	default boolean setSeed(long seed) {
+		return false;
+	}
+
+	/**
+	 * Discard any seed set on the calling thread by {@link #setSeed(long)}, so that values are no longer repeatable.
+	 */
+	default void clearSeed() {
+	}
 	
 
 	public static ServiceDefinition<RandomValueGenerator> getServiceDefinition() {
@@ -34,6 +34,9 @@ public class RandomValueSampler {
 	}
 
 	public <E> E getFrom(Collection<E> collection) {
+		if (collection instanceof List && collection instanceof RandomAccess) {
+			return getFrom((List<E>) collection);
+		}
 		return findFrom(collection)
 				.orElseThrow(() -> new IllegalStateException());
 	}
@@ -48,8 +51,15 @@ public class RandomValueSampler {
 	}
 
 	public <E> E getFrom(List<E> list) {
-		return findFrom(list)
-				.orElseThrow(() -> new IllegalStateException());
+		if (!(list instanceof RandomAccess)) {
+			return findFrom(list)
+					.orElseThrow(() -> new IllegalStateException());
+		}
+		E value = list.isEmpty() ? null : list.get(randomIndex(list));
+		if (value == null) {
+			throw new IllegalStateException();
+		}
+		return value;
 	}
 
 	public <E> Optional<E> findFrom(List<E> list) {
@@ -0,0 +1,68 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable, index-addressable tables of JDK values that factories sample from, such as the available locales and
+ * time zones. Each table is built lazily the first time it is requested and is then shared for the lifetime of the
+ * JVM, so sampling from it with a {@link RandomValueSampler} costs a single random index and no allocation.
+ */
+public final class SamplingTables {
+
+	private SamplingTables() {
+	}
+
+	/**
+	 * @return all locales reported by {@link Locale#getAvailableLocales()}, as an unmodifiable random access list
+	 */
+	public static List<Locale> availableLocales() {
+		return LocaleTable.LOCALES;
+	}
+
+	/**
+	 * @return all zones reported by {@link ZoneId#getAvailableZoneIds()}, ordered by id so that a seeded generator
+	 *         always selects the same zone, as an unmodifiable random access list
+	 */
+	public static List<ZoneId> availableZoneIds() {
+		return ZoneIdTable.ZONE_IDS;
+	}
+
+	private static final class LocaleTable {
+
+		private static final List<Locale> LOCALES = Collections.unmodifiableList(
+				Arrays.asList(Locale.getAvailableLocales()));
+	}
+
+	private static final class ZoneIdTable {
+
+		private static final List<ZoneId> ZONE_IDS = Collections.unmodifiableList(Arrays.asList(
+				ZoneId.getAvailableZoneIds().stream()
+						.sorted()
+						.map(ZoneId::of)
+						.toArray(ZoneId[]::new)));
+	}
+}
@@ -0,0 +1,154 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+/**
+ * <p>
+ * RandomValueGenerator that generates values with the generator bound to the calling thread by
+ * {@link #runWith(RandomValueGenerator, Runnable)}, or with its default generator when none is bound.
+ * </p>
+ * 
+ * <p>
+ * The shared, service-loaded factories generate their values through a ScopedRandomValueGenerator, so that a test can
+ * make them use its own generator (for example a {@link SplittableRandomValueGenerator} forked for each iteration)
+ * without building its own factories.
+ * </p>
+ */
+public final class ScopedRandomValueGenerator implements RandomValueGenerator {
+
+	/** The generator bound to each thread, if any. Shared by all instances. */
+	private static final ThreadLocal<RandomValueGenerator> boundGenerator = new ThreadLocal<>();
+
+	/** The generator used on threads with no bound generator. */
+	private final RandomValueGenerator defaultGenerator;
+
+	/**
+	 * Construct a new ScopedRandomValueGenerator.
+	 * 
+	 * @param defaultGenerator
+	 *            The generator to use on threads with no bound generator.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the defaultGenerator is deemed illegal. For example, if it is <code>null</code>.
+	 */
+	public ScopedRandomValueGenerator(RandomValueGenerator defaultGenerator) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("defaultGenerator", "construct ScopedRandomValueGenerator", defaultGenerator);
+		this.defaultGenerator = defaultGenerator;
+	}
+
+	/**
+	 * Run the specified runnable with every ScopedRandomValueGenerator on the calling thread generating values with
+	 * the specified generator. The previously bound generator, if any, is restored afterwards.
+	 * 
+	 * @param generator
+	 *            The generator to bind to the calling thread.
+	 * @param runnable
+	 *            The code to run.
+	 */
+	public static void runWith(RandomValueGenerator generator, Runnable runnable) {
+		RandomValueGenerator previous = boundGenerator.get();
+		boundGenerator.set(generator);
+		try {
+			runnable.run();
+		} finally {
+			if (previous != null) {
+				boundGenerator.set(previous);
+			} else {
+				boundGenerator.remove();
+			}
+		}
+	}
+
+	@Override
+	public byte nextByte() {
+		return generator().nextByte();
+	}
+
+	@Override
+	public byte[] nextBytes(int size) {
+		return generator().nextBytes(size);
+	}
+
+	@Override
+	public int nextInt() {
+		return generator().nextInt();
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return generator().nextInt(bound);
+	}
+
+	@Override
+	public long nextLong() {
+		return generator().nextLong();
+	}
+
+	@Override
+	public float nextFloat() {
+		return generator().nextFloat();
+	}
+
+	@Override
+	public double nextDouble() {
+		return generator().nextDouble();
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return generator().nextBoolean();
+	}
+
+	@Override
+	public void nextInts(int[] values) {
+		generator().nextInts(values);
+	}
+
+	@Override
+	public void nextLongs(long[] values) {
+		generator().nextLongs(values);
+	}
+
+	@Override
+	public void nextDoubles(double[] values) {
+		generator().nextDoubles(values);
+	}
+
+	@Override
+	public void nextBooleans(boolean[] values) {
+		generator().nextBooleans(values);
+	}
+
+	@Override
+	public boolean setSeed(long seed) {
+		return generator().setSeed(seed);
+	}
+
+	@Override
+	public void clearSeed() {
+		generator().clearSeed();
+	}
+
+	private RandomValueGenerator generator() {
+		RandomValueGenerator generator = boundGenerator.get();
+		return generator != null ? generator : defaultGenerator;
+	}
+}
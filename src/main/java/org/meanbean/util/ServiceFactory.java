@@ -20,38 +20,95 @@
 
 package org.meanbean.util;
 
+import java.lang.ref.SoftReference;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Loads service through META-INF/services mechanism, additionally providing caching and ordering behavior
+ * <p>
+ * Services are loaded once per class loader into a shared, immutable snapshot that is read without locking. Services
+ * keep customisations made while testing (for example registered factories) in state bound to the current scope, see
+ * {@link #getScopedState(Object, Supplier)}, so that the shared services are never modified by a test. A snapshot
+ * is kept for as long as a scope uses it, and may be reloaded under memory pressure otherwise, so that class loaders
+ * that define services can still be collected.
+ * </p>
  */
 public class ServiceFactory<T> {
 
-    private static final ThreadLocal<Map<String, Object>> factoryCache = ThreadLocal.withInitial(ConcurrentHashMap::new);
+    /**
+     * Shared service snapshot of each class loader. Snapshots are held softly, as the services in them may be defined
+     * by the class loader itself and would otherwise keep it from being collected.
+     */
+    private static final Map<ClassLoader, SoftReference<AtomicReference<Map<String, ServiceFactory<?>>>>> registries =
+            new WeakHashMap<>();
+
+    /** Keys of services currently being loaded by this thread. */
+    private static final ThreadLocal<Set<String>> inProgress = ThreadLocal.withInitial(HashSet::new);
+
+    private static final ThreadLocal<Map<Object, Object>> scopedState = ThreadLocal.withInitial(ConcurrentHashMap::new);
     private static final ThreadLocal<AtomicInteger> threadScope = ThreadLocal.withInitial(AtomicInteger::new);
 
     private final List<T> services;
 
     @SuppressWarnings("unchecked")
-    static synchronized <T> ServiceFactory<T> getInstance(ServiceDefinition<T> definition) {
-        String inprogressKey = "Load of " + definition.getServiceType().getName() + " already in progress";
+    static <T> ServiceFactory<T> getInstance(ServiceDefinition<T> definition) {
+        String key = definition.getServiceType().getName();
+        AtomicReference<Map<String, ServiceFactory<?>>> registry = registry();
 
-        if (factoryCache().containsKey(inprogressKey)) {
-            throw new IllegalStateException(inprogressKey);
+        ServiceFactory<T> result = (ServiceFactory<T>) registry.get().get(key);
+        if (result != null) {
+            return result;
         }
 
-        factoryCache().put(inprogressKey, inprogressKey);
+        if (!inProgress.get().add(key)) {
+            throw new IllegalStateException("Load of " + key + " already in progress");
+        }
         try {
-            return (ServiceFactory<T>) factoryCache().computeIfAbsent(definition.getServiceType().getName(),
-                    key -> ServiceFactory.create(definition));
+            ServiceFactory<T> created = ServiceFactory.create(definition);
+            while (true) {
+                Map<String, ServiceFactory<?>> snapshot = registry.get();
+                ServiceFactory<T> existing = (ServiceFactory<T>) snapshot.get(key);
+                if (existing != null) {
+                    return existing; // another thread loaded the service first
+                }
+                Map<String, ServiceFactory<?>> updated = new HashMap<>(snapshot);
+                updated.put(key, created);
+                if (registry.compareAndSet(snapshot, Collections.unmodifiableMap(updated))) {
+                    return created;
+                }
+            }
         } finally {
-            factoryCache().remove(inprogressKey);
+            inProgress.get().remove(key);
+        }
+    }
+
+    private static AtomicReference<Map<String, ServiceFactory<?>>> registry() {
+        ClassLoader classLoader = ServiceLoader.defaultClassLoader();
+        AtomicReference<Map<String, ServiceFactory<?>>> registry;
+        synchronized (registries) {
+            SoftReference<AtomicReference<Map<String, ServiceFactory<?>>>> reference = registries.get(classLoader);
+            registry = reference == null ? null : reference.get();
+            if (registry == null) {
+                registry = new AtomicReference<>(Collections.emptyMap());
+                registries.put(classLoader, new SoftReference<>(registry));
+            }
         }
+        if (threadScope.get().get() > 0) {
+            // keep the snapshot, and the customisations keyed by its services, for the rest of the scope
+            scopedState.get().putIfAbsent(registry, registry);
+        }
+        return registry;
     }
 
     public static void inScope(Runnable runnable) {
@@ -61,20 +118,52 @@ public class ServiceFactory<T> {
         } finally {
             int scope = threadScope.get().decrementAndGet();
             if (scope == 0) {
-                factoryCache.remove();
+                scopedState.remove();
             }
         }
     }
 
-    private static Map<String, Object> factoryCache() {
-        return factoryCache.get();
+    /**
+     * Binds the given runnable to the calling thread's current scope, so that when it is run on another thread (e.g. a
+     * worker thread) it sees the same services, including any customisations made to them in this scope.
+     */
+    public static Runnable withCurrentScope(Runnable runnable) {
+        Map<Object, Object> scopeState = scopedState.get();
+        return () -> {
+            Map<Object, Object> previousState = scopedState.get();
+            scopedState.set(scopeState);
+            threadScope.get().incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                threadScope.get().decrementAndGet();
+                scopedState.set(previousState);
+            }
+        };
+    }
+
+    /**
+     * Get the state stored against the given key in the current scope, creating it on first use. The state is
+     * discarded when the outermost scope ends. Shared services use this to keep customisations out of the shared
+     * service snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> S getScopedState(Object key, Supplier<S> initialState) {
+        return (S) scopedState.get().computeIfAbsent(key, ignored -> initialState.get());
+    }
+
+    /**
+     * Get the state stored against the given key in the current scope, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> S findScopedState(Object key) {
+        return (S) scopedState.get().get(key);
     }
 
     static <T> ServiceFactory<T> create(ServiceDefinition<T> definition) {
         List<T> services = ServiceFactory.doLoad(definition);
         return new ServiceFactory<>(services, definition);
     }
-
     private ServiceFactory(List<T> services, ServiceDefinition<T> definition) {
         if (services.isEmpty()) {
             throw new IllegalArgumentException("cannot find services for " + definition.getServiceType());
@@ -90,7 +179,7 @@ public class ServiceFactory<T> {
         return services;
     }
 
-    private static synchronized <T> List<T> doLoad(ServiceDefinition<T> serviceDefinition) {
+    private static <T> List<T> doLoad(ServiceDefinition<T> serviceDefinition) {
         ServiceLoader<T> loader = new ServiceLoader<>(serviceDefinition.getServiceType(),
                 serviceDefinition.getConstructorTypes());
         List<T> services = loader.createAll(serviceDefinition.getConstructorArgs());
@@ -103,7 +192,11 @@ public class ServiceFactory<T> {
     }
 
     private static <T> int getOrder(T obj) {
-        Order order = obj.getClass().getAnnotation(Order.class);
+        return getOrder(obj.getClass());
+    }
+
+    static int getOrder(Class<?> serviceClass) {
+        Order order = serviceClass.getAnnotation(Order.class);
         if (order == null) {
             return Order.LOWEST_PRECEDENCE;
         }
@@ -36,23 +36,31 @@ package org.meanbean.util;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.ServiceConfigurationError;
-import java.util.stream.Stream;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Thread.currentThread;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Alternative service loader that supports constructors with arguments in opposite to {@link java.util.ServiceLoader}.
+ * <p>
+ * The service implementations found for a class loader and service are remembered, so META-INF/services resources are
+ * only read once for each of them.
+ * </p>
  *
  * @param <T>
  *            Service interface
@@ -61,10 +69,21 @@ public final class ServiceLoader<T> {
 
 	private static final String SERVICE_PREFIX = "META-INF/services/";
 
+	/**
+	 * Constructors of the implementations of each service, in @Order, per class loader. They are held softly, as
+	 * their declaring classes may be defined by the class loader itself and would otherwise keep it from being
+	 * collected.
+	 */
+	private static final Map<ClassLoader, SoftReference<Map<String, List<Constructor<?>>>>> constructorsByClassLoader =
+			new WeakHashMap<>();
+
 	private final Class<? extends T> service;
 	private final Class<?>[] argumentTypes;
 	private final ClassLoader classLoader;
 
+	/** Constructors of the implementations of the service, resolved on first use. */
+	private volatile List<Constructor<?>> constructors;
+
 	/**
 	 * @param service
 	 *            Service interface
@@ -74,26 +93,89 @@ public final class ServiceLoader<T> {
 	public ServiceLoader(Class<? extends T> service, Class<?>... argumentTypes) {
 		this.service = service;
 		this.argumentTypes = argumentTypes;
-		this.classLoader = Stream.of(currentThread().getContextClassLoader(), getClass().getClassLoader())
-				.filter(Objects::nonNull)
-				.findFirst()
-				.orElse(ClassLoader.getSystemClassLoader());
+		this.classLoader = defaultClassLoader();
+	}
+
+	/**
+	 * @return The class loader services are loaded from: the context class loader if set, otherwise the class loader
+	 *         of this library
+	 */
+	static ClassLoader defaultClassLoader() {
+		ClassLoader classLoader = currentThread().getContextClassLoader();
+		if (classLoader == null) {
+			classLoader = ServiceLoader.class.getClassLoader();
+		}
+		return classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
 	}
 
 	public List<T> createAll(Object... arguments) {
 		try {
-			Collection<String> classNames = findClassNames(classLoader, service);
-			List<T> services = new ArrayList<>(classNames.size());
-			for (String className : classNames) {
-				services.add(createInstance(className, arguments));
+			List<Constructor<?>> constructors = constructors();
+			List<T> services = new ArrayList<>(constructors.size());
+			for (Constructor<?> constructor : constructors) {
+				services.add(service.cast(constructor.newInstance(arguments)));
 			}
-	        Collections.sort(services, ServiceFactory.getComparator());
 			return services;
 		} catch (Exception ex) {
 			throw new ServiceConfigurationError("Cannot create service instance for " + service.getName(), ex);
 		}
 	}
 
+	/**
+	 * Create an instance of the service implementation with the highest precedence only.
+	 */
+	public T createFirst(Object... arguments) {
+		try {
+			List<Constructor<?>> constructors = constructors();
+			if (constructors.isEmpty()) {
+				throw new ServiceConfigurationError("Cannot find service implementation for " + service.getName());
+			}
+			return service.cast(constructors.get(0).newInstance(arguments));
+		} catch (ServiceConfigurationError ex) {
+			throw ex;
+		} catch (Exception ex) {
+			throw new ServiceConfigurationError("Cannot create service instance for " + service.getName(), ex);
+		}
+	}
+
+	private List<Constructor<?>> constructors() throws Exception {
+		List<Constructor<?>> result = constructors;
+		if (result == null) {
+			Map<String, List<Constructor<?>>> cache = constructorCache(classLoader);
+			String key = service.getName() + Arrays.toString(argumentTypes);
+			result = cache.get(key);
+			if (result == null) {
+				result = findConstructors();
+				cache.putIfAbsent(key, result);
+			}
+			constructors = result;
+		}
+		return result;
+	}
+
+	private static Map<String, List<Constructor<?>>> constructorCache(ClassLoader classLoader) {
+		synchronized (constructorsByClassLoader) {
+			SoftReference<Map<String, List<Constructor<?>>>> reference = constructorsByClassLoader.get(classLoader);
+			Map<String, List<Constructor<?>>> cache = reference == null ? null : reference.get();
+			if (cache == null) {
+				cache = new ConcurrentHashMap<>();
+				constructorsByClassLoader.put(classLoader, new SoftReference<>(cache));
+			}
+			return cache;
+		}
+	}
+
+	private List<Constructor<?>> findConstructors() throws Exception {
+		Collection<String> classNames = findClassNames(classLoader, service);
+		List<Constructor<?>> result = new ArrayList<>(classNames.size());
+		for (String className : classNames) {
+			Class<?> implementation = Class.forName(className, false, classLoader);
+			result.add(implementation.getDeclaredConstructor(argumentTypes));
+		}
+		result.sort(Comparator.comparingInt(constructor -> ServiceFactory.getOrder(constructor.getDeclaringClass())));
+		return Collections.unmodifiableList(result);
+	}
+
 	private static <T> Collection<String> findClassNames(ClassLoader classLoader, Class<? extends T> service) throws IOException {
 		String name = SERVICE_PREFIX + service.getName();
 		Enumeration<URL> urls = classLoader.getResources(name);
@@ -112,11 +194,4 @@ public final class ServiceLoader<T> {
 		return classNames;
 	}
 
-	private T createInstance(String className, Object... arguments) throws Exception {
-		Class<?> implementation = Class.forName(className, false, classLoader);
-		Constructor<?> constructor = implementation.getDeclaredConstructor(argumentTypes);
-		Object newInstance = constructor.newInstance(arguments);
-		return service.cast(newInstance);
-	}
-
 }
@@ -22,7 +22,7 @@ package org.meanbean.util;
 
 import org.kohsuke.MetaInfServices;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -33,6 +33,12 @@ import java.util.concurrent.ThreadLocalRandom;
 @MetaInfServices
 public class SimpleRandomValueGenerator implements RandomValueGenerator {
 
+	/**
+	 * Seeded source of values for the current thread, if any. Shared by all instances so that every factory on the
+	 * thread draws from the same repeatable sequence. Unseeded threads draw from {@link ThreadLocalRandom}.
+	 */
+	private static final ThreadLocal<SplittableRandom> seededRandom = new ThreadLocal<>();
+
 	/**
 	 * Generate a random byte.
 	 * 
@@ -40,7 +46,7 @@ public class SimpleRandomValueGenerator implements RandomValueGenerator {
 	 */
 	@Override
     public byte nextByte() {
-		return nextBytes(1)[0];
+		return (byte) nextInt();
 	}
 
 	/**
@@ -60,7 +66,12 @@ public class SimpleRandomValueGenerator implements RandomValueGenerator {
 			throw new IllegalArgumentException("Cannot generate a random array of bytes of negative length.");
 		}
 		byte[] bytes = new byte[size];
-		random().nextBytes(bytes);
+		SplittableRandom seeded = seededRandom.get();
+		if (seeded != null) {
+			SplittableRandomValueGenerator.nextBytes(seeded, bytes);
+		} else {
+			ThreadLocalRandom.current().nextBytes(bytes);
+		}
 		return bytes;
 	}
 
@@ -71,12 +82,14 @@ public class SimpleRandomValueGenerator implements RandomValueGenerator {
 	 */
 	@Override
     public int nextInt() {
-		return random().nextInt();
+		SplittableRandom seeded = seededRandom.get();
+		return seeded != null ? seeded.nextInt() : ThreadLocalRandom.current().nextInt();
 	}
 
     @Override
     public int nextInt(int bound) {
-        return random().nextInt(bound);
+        SplittableRandom seeded = seededRandom.get();
+        return seeded != null ? seeded.nextInt(bound) : ThreadLocalRandom.current().nextInt(bound);
     }
 
 	/**
@@ -86,7 +99,8 @@ public class SimpleRandomValueGenerator implements RandomValueGenerator {
 	 */
 	@Override
     public long nextLong() {
-		return random().nextLong();
+		SplittableRandom seeded = seededRandom.get();
+		return seeded != null ? seeded.nextLong() : ThreadLocalRandom.current().nextLong();
 	}
 
 	/**
@@ -96,7 +110,10 @@ public class SimpleRandomValueGenerator implements RandomValueGenerator {
 	 */
 	@Override
     public float nextFloat() {
-		return random().nextFloat();
+		SplittableRandom seeded = seededRandom.get();
+		return seeded != null
+				? SplittableRandomValueGenerator.nextFloat(seeded)
+				: ThreadLocalRandom.current().nextFloat();
 	}
 
 	/**
@@ -106,7 +123,8 @@ public class SimpleRandomValueGenerator implements RandomValueGenerator {
 	 */
 	@Override
     public double nextDouble() {
-		return random().nextDouble();
+		SplittableRandom seeded = seededRandom.get();
+		return seeded != null ? seeded.nextDouble() : ThreadLocalRandom.current().nextDouble();
 	}
 
 	/**
@@ -116,11 +134,84 @@ public class SimpleRandomValueGenerator implements RandomValueGenerator {
 	 */
 	@Override
     public boolean nextBoolean() {
-		return random().nextBoolean();
+		SplittableRandom seeded = seededRandom.get();
+		return seeded != null ? seeded.nextBoolean() : ThreadLocalRandom.current().nextBoolean();
     }
 
-    private Random random() {
-        return ThreadLocalRandom.current();
-    }
+	@Override
+	public void nextInts(int[] values) {
+		SplittableRandom seeded = seededRandom.get();
+		if (seeded != null) {
+			for (int idx = 0; idx < values.length; idx++) {
+				values[idx] = seeded.nextInt();
+			}
+			return;
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = random.nextInt();
+		}
+	}
+
+	@Override
+	public void nextLongs(long[] values) {
+		SplittableRandom seeded = seededRandom.get();
+		if (seeded != null) {
+			for (int idx = 0; idx < values.length; idx++) {
+				values[idx] = seeded.nextLong();
+			}
+			return;
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = random.nextLong();
+		}
+	}
+
+	@Override
+	public void nextDoubles(double[] values) {
+		SplittableRandom seeded = seededRandom.get();
+		if (seeded != null) {
+			for (int idx = 0; idx < values.length; idx++) {
+				values[idx] = seeded.nextDouble();
+			}
+			return;
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = random.nextDouble();
+		}
+	}
+
+	@Override
+	public void nextBooleans(boolean[] values) {
+		SplittableRandom seeded = seededRandom.get();
+		if (seeded != null) {
+			for (int idx = 0; idx < values.length; idx++) {
+				values[idx] = seeded.nextBoolean();
+			}
+			return;
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = random.nextBoolean();
+		}
+	}
+
+	/**
+	 * Generate values on the current thread from a new SplittableRandom seeded with the specified seed.
+	 * 
+	 * @return <code>true</code>, as this generator can always be seeded.
+	 */
+	@Override
+	public boolean setSeed(long seed) {
+		seededRandom.set(new SplittableRandom(seed));
+		return true;
+	}
+
+	@Override
+	public void clearSeed() {
+		seededRandom.remove();
+	}
 
 }
@@ -0,0 +1,253 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>
+ * RandomValueGenerator backed by {@link SplittableRandom}. Every thread draws from its own stream, split from the
+ * stream of this generator the first time the thread generates a value, so worker threads share no mutable state.
+ * </p>
+ * 
+ * <p>
+ * Generation is repeatable when each unit of work is given its own stream, either by seeding the current thread with
+ * {@link #setSeed(long)} or by giving each bean, iteration or worker a child generator created by {@link #fork(long)}.
+ * BeanTester forks a child for every test iteration when it is configured with a SplittableRandomValueGenerator.
+ * </p>
+ * 
+ * <p>
+ * This generator is not registered as a service, so it never replaces the default RandomValueGenerator. Select it
+ * explicitly, for example with {@link org.meanbean.test.VerifierSettings#setRandomValueGenerator(RandomValueGenerator)}.
+ * </p>
+ */
+public class SplittableRandomValueGenerator implements RandomValueGenerator {
+
+	/** Mixes fork keys into the seed, as SplittableRandom does with its own gamma. */
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	/** The seed of this generator, which all of its forks are derived from. */
+	private final long seed;
+
+	/** The stream the streams of new threads are split from. Guarded by itself. */
+	private final SplittableRandom root;
+
+	/** The stream of each thread: split from root, or seeded by setSeed. */
+	private final ThreadLocal<SplittableRandom> random = ThreadLocal.withInitial(this::split);
+
+	/**
+	 * Construct a new SplittableRandomValueGenerator with a randomly chosen seed.
+	 */
+	public SplittableRandomValueGenerator() {
+		this(ThreadLocalRandom.current().nextLong());
+	}
+
+	/**
+	 * Construct a new SplittableRandomValueGenerator whose values and forks are derived from the specified seed.
+	 * 
+	 * @param seed
+	 *            The seed of the generator.
+	 */
+	public SplittableRandomValueGenerator(long seed) {
+		this.seed = seed;
+		this.root = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Create an independent child generator for the unit of work identified by the specified key, for example a bean,
+	 * iteration or worker index. The child depends only on the seed of this generator and the key, not on the order in
+	 * which forks are created, so forks made on different threads are reproducible.
+	 * 
+	 * @param key
+	 *            Identifies the unit of work the child generator is for.
+	 * 
+	 * @return A new generator, independent of this generator and of forks with other keys.
+	 */
+	public SplittableRandomValueGenerator fork(long key) {
+		return new SplittableRandomValueGenerator(new SplittableRandom(seed + key * GOLDEN_GAMMA).nextLong());
+	}
+
+	/**
+	 * Generate a random byte.
+	 * 
+	 * @return A randomly generated byte, which may be positive or negative.
+	 */
+	@Override
+	public byte nextByte() {
+		return (byte) random.get().nextInt();
+	}
+
+	/**
+	 * Generate a random array of bytes.
+	 * 
+	 * @param size
+	 *            The number of bytes to generate and return. This cannot be a negative number.
+	 * 
+	 * @return An array of <i>size</i> randomly generated bytes, each of which may be positive or negative.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the size parameter is deemed illegal. For example, if it is a negative number.
+	 */
+	@Override
+	public byte[] nextBytes(int size) throws IllegalArgumentException {
+		if (size < 0) {
+			throw new IllegalArgumentException("Cannot generate a random array of bytes of negative length.");
+		}
+		byte[] bytes = new byte[size];
+		nextBytes(random.get(), bytes);
+		return bytes;
+	}
+
+	/**
+	 * Generate a random int.
+	 * 
+	 * @return A randomly generated int, which may be positive or negative.
+	 */
+	@Override
+	public int nextInt() {
+		return random.get().nextInt();
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return random.get().nextInt(bound);
+	}
+
+	/**
+	 * Generate a random long.
+	 * 
+	 * @return A randomly generated long, which may be positive or negative.
+	 */
+	@Override
+	public long nextLong() {
+		return random.get().nextLong();
+	}
+
+	/**
+	 * Generate a random float between 0.0f (inclusive) and 1.0f (exclusive).
+	 * 
+	 * @return A randomly generated float.
+	 */
+	@Override
+	public float nextFloat() {
+		return nextFloat(random.get());
+	}
+
+	/**
+	 * Generate a random double between 0.0d (inclusive) and 1.0d (exclusive).
+	 * 
+	 * @return A randomly generated double.
+	 */
+	@Override
+	public double nextDouble() {
+		return random.get().nextDouble();
+	}
+
+	/**
+	 * Generate a random boolean.
+	 * 
+	 * @return A randomly generated boolean.
+	 */
+	@Override
+	public boolean nextBoolean() {
+		return random.get().nextBoolean();
+	}
+
+	@Override
+	public void nextInts(int[] values) {
+		SplittableRandom stream = random.get();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = stream.nextInt();
+		}
+	}
+
+	@Override
+	public void nextLongs(long[] values) {
+		SplittableRandom stream = random.get();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = stream.nextLong();
+		}
+	}
+
+	@Override
+	public void nextDoubles(double[] values) {
+		SplittableRandom stream = random.get();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = stream.nextDouble();
+		}
+	}
+
+	@Override
+	public void nextBooleans(boolean[] values) {
+		SplittableRandom stream = random.get();
+		for (int idx = 0; idx < values.length; idx++) {
+			values[idx] = stream.nextBoolean();
+		}
+	}
+
+	/**
+	 * Generate values on the current thread from a new stream seeded with the specified seed.
+	 * 
+	 * @return <code>true</code>, as this generator can always be seeded.
+	 */
+	@Override
+	public boolean setSeed(long seed) {
+		random.set(new SplittableRandom(seed));
+		return true;
+	}
+
+	/**
+	 * Go back to generating values on the current thread from a new stream split from this generator.
+	 */
+	@Override
+	public void clearSeed() {
+		random.remove();
+	}
+
+	private SplittableRandom split() {
+		synchronized (root) {
+			return root.split();
+		}
+	}
+
+	/**
+	 * Fill the specified array with random bytes drawn from the specified stream, eight bytes per long.
+	 */
+	static void nextBytes(SplittableRandom stream, byte[] bytes) {
+		int idx = 0;
+		while (idx < bytes.length) {
+			long value = stream.nextLong();
+			for (int remaining = Math.min(bytes.length - idx, Long.BYTES); remaining > 0;
+					remaining--, value >>>= Byte.SIZE) {
+				bytes[idx++] = (byte) value;
+			}
+		}
+	}
+
+	/**
+	 * Generate a random float between 0.0f (inclusive) and 1.0f (exclusive) from the top 24 bits of an int drawn from
+	 * the specified stream.
+	 */
+	static float nextFloat(SplittableRandom stream) {
+		return (stream.nextInt() >>> 8) * 0x1.0p-24f;
+	}
+}
@@ -21,6 +21,8 @@
 package org.meanbean.bean.info;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Test;
 
@@ -45,4 +47,31 @@ public class JavaBeanInformationFactoryTest {
         factory.create(null);
         // Then - throws IllegalArgumentException
     }
+
+    @Test
+    public void shouldReuseBeanInformationForSameBeanClass() throws Exception {
+        // Given
+        JavaBeanInformationFactory factory = new JavaBeanInformationFactory();
+        // When
+        BeanInformation first = factory.create(PropertyInformationBean.class);
+        BeanInformation second = new JavaBeanInformationFactory().create(PropertyInformationBean.class);
+        // Then
+        assertSame("BeanInformation was not reused.", first, second);
+    }
+
+    @Test
+    public void shouldIntrospectAgainAfterCacheIsCleared() throws Exception {
+        // Given
+        JavaBeanInformationFactory factory = new JavaBeanInformationFactory();
+        BeanInformation first = factory.create(PropertyInformationBean.class);
+        // When
+        JavaBeanInformationFactory.clearCache();
+        // Then
+        assertNotSame("BeanInformation was not discarded.", first, factory.create(PropertyInformationBean.class));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldPreventModificationOfSharedProperties() throws Exception {
+        new JavaBeanInformationFactory().create(PropertyInformationBean.class).getProperties().clear();
+    }
 }
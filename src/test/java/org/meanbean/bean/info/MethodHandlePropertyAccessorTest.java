@@ -0,0 +1,118 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Test;
+
+public class MethodHandlePropertyAccessorTest {
+
+	static class Bean {
+
+		private long number;
+
+		public long getNumber() {
+			return number;
+		}
+
+		public void setNumber(long number) {
+			if (number < 0) {
+				throw new IllegalStateException("negative");
+			}
+			this.number = number;
+		}
+	}
+
+	private final PropertyAccessor accessor = accessor("number");
+
+	private static PropertyAccessor accessor(String propertyName) {
+		return new JavaBeanInformationFactory().create(Bean.class).getProperties().stream()
+				.filter(property -> property.getName().equals(propertyName))
+				.findFirst()
+				.get()
+				.getAccessor();
+	}
+
+	@Test
+	public void shouldWriteAndReadProperty() throws Exception {
+		Bean bean = new Bean();
+		accessor.write(bean, 42L);
+		assertThat(accessor.read(bean)).isEqualTo(42L);
+	}
+
+	@Test
+	public void shouldWidenArgumentLikeReflection() throws Exception {
+		Bean bean = new Bean();
+		accessor.write(bean, 42);
+		assertThat(bean.getNumber()).isEqualTo(42L);
+	}
+
+	@Test
+	public void shouldWrapExceptionThrownBySetter() throws Exception {
+		assertThatThrownBy(() -> accessor.write(new Bean(), -1L))
+				.isInstanceOf(InvocationTargetException.class)
+				.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void shouldRejectNullForPrimitiveProperty() throws Exception {
+		assertThatThrownBy(() -> accessor.write(new Bean(), null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void shouldRejectBeanOfWrongType() throws Exception {
+		assertThatThrownBy(() -> accessor.read("not a bean"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void shouldReturnSameAccessorForProperty() throws Exception {
+		PropertyInformation property = new JavaBeanInformationFactory().create(Bean.class).getProperties().iterator()
+				.next();
+		assertThat(property.getAccessor()).isSameAs(property.getAccessor());
+	}
+
+	@Test
+	public void shouldWriteAndReadPrimitivePropertyWithoutBoxing() throws Exception {
+		Bean bean = new Bean();
+		accessor.writeLong(bean, 42L);
+		assertThat(accessor.readLong(bean)).isEqualTo(42L);
+	}
+
+	@Test
+	public void shouldWrapExceptionThrownByPrimitiveSetter() throws Exception {
+		assertThatThrownBy(() -> accessor.writeLong(new Bean(), -1L))
+				.isInstanceOf(InvocationTargetException.class)
+				.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void shouldFallBackToBoxedAccessForOtherPrimitiveType() throws Exception {
+		Bean bean = new Bean();
+		accessor.writeInt(bean, 42);
+		assertThat(bean.getNumber()).isEqualTo(42L);
+	}
+}
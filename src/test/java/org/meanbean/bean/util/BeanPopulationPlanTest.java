@@ -0,0 +1,116 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.util;
+
+import org.junit.Test;
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.bean.util.PropertyInformationFilter.PropertyVisibility;
+import org.meanbean.factories.ObjectCreationException;
+import org.meanbean.factories.util.BasicFactoryLookupStrategy;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.test.BeanTester;
+import org.meanbean.test.beans.ComplexBean;
+import org.meanbean.test.beans.NonBean;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class BeanPopulationPlanTest {
+
+	private final BeanTester beanTester = new BeanTester();
+
+	private final FactoryLookupStrategy factoryLookupStrategy = new BasicFactoryLookupStrategy(
+	        beanTester.getFactoryCollection(), beanTester.getRandomValueGenerator());
+
+	private final BeanInformation complexBeanInformation = new JavaBeanInformationFactory().create(ComplexBean.class);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void compileShouldPreventNullBeanInformation() throws Exception {
+		BeanPopulationPlan.compile(null, factoryLookupStrategy);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void compileShouldPreventNullFactoryLookupStrategy() throws Exception {
+		BeanPopulationPlan.compile(complexBeanInformation, null);
+	}
+
+	@Test(expected = ObjectCreationException.class)
+	public void compileShouldWrapFactoryLookupFailures() throws Exception {
+		BeanInformation beanInformation = new JavaBeanInformationFactory().create(NonBeanHolder.class);
+		BeanPopulationPlan.compile(beanInformation, factoryLookupStrategy);
+	}
+
+	@Test
+	public void createPopulatedBeanShouldPopulateEveryWritableProperty() throws Exception {
+		BeanPopulationPlan plan = BeanPopulationPlan.compile(complexBeanInformation, factoryLookupStrategy);
+		Object[] values = plan.createValues();
+		ComplexBean bean = (ComplexBean) plan.createPopulatedBean(values);
+		ComplexBean other = (ComplexBean) plan.createPopulatedBean(values);
+		assertThat(bean, is(not(sameInstance(other))));
+		List<PropertyInformation> writableProperties = new ArrayList<>(
+		        PropertyInformationFilter.filter(complexBeanInformation.getProperties(), PropertyVisibility.WRITABLE));
+		assertThat(values.length, is(writableProperties.size()));
+		for (int idx = 0; idx < values.length; idx++) {
+			Method readMethod = writableProperties.get(idx).getReadMethod();
+			assertThat(values[idx], is(notNullValue()));
+			assertThat(readMethod.invoke(bean), is(equalTo(values[idx])));
+			assertThat(readMethod.invoke(other), is(equalTo(values[idx])));
+		}
+	}
+
+	@Test
+	public void createValuesShouldCreateNewValuesEachTime() throws Exception {
+		BeanPopulationPlan plan = BeanPopulationPlan.compile(complexBeanInformation, factoryLookupStrategy);
+		assertThat(plan.createValues(), is(not(equalTo(plan.createValues()))));
+	}
+
+	@Test
+	public void createPopulatedBeanShouldPopulateWithNewValues() throws Exception {
+		BeanPopulationPlan plan = BeanPopulationPlan.compile(complexBeanInformation, factoryLookupStrategy);
+		ComplexBean bean = (ComplexBean) plan.createPopulatedBean();
+		ComplexBean other = (ComplexBean) plan.createPopulatedBean();
+		assertThat(bean.getFirstName(), is(not(equalTo(other.getFirstName()))));
+		assertThat(bean.getFavouriteNumber(), is(not(other.getFavouriteNumber())));
+	}
+
+	public static class NonBeanHolder {
+
+		private NonBean nonBean;
+
+		public NonBean getNonBean() {
+			return nonBean;
+		}
+
+		public void setNonBean(NonBean nonBean) {
+			this.nonBean = nonBean;
+		}
+	}
+}
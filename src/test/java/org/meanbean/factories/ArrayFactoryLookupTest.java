@@ -52,6 +52,14 @@ public class ArrayFactoryLookupTest {
 		}
 	}
 
+	@Test
+	public void getFactoryForPrimitiveArray() throws Exception {
+		Factory<long[]> factory = arrayFactoryCollection.getFactory(long[].class);
+
+		assertThat(factory.create())
+				.hasSizeLessThanOrEqualTo(arrayFactoryCollection.getMaxSize());
+	}
+
 	@Test
 	public void maxArrayLength() {
 		assertThat(arrayFactoryCollection.getMaxSize())
@@ -21,10 +21,14 @@
 package org.meanbean.factories;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
 
 import org.junit.Test;
 import org.meanbean.test.beans.Bean;
@@ -63,4 +67,34 @@ public class BasicNewObjectInstanceFactoryTest {
 		Object createdObject = new BasicNewObjectInstanceFactory(PackagePrivateConstructorObject.class).create();
 		assertThat("Factory failed to create non-null object.", createdObject, is(not(nullValue())));
 	}
+
+	@Test
+	public void createShouldWrapExceptionThrownByConstructor() throws Exception {
+		try {
+			new BasicNewObjectInstanceFactory(ThrowingConstructorObject.class).create();
+			fail("Expected ObjectCreationException.");
+		} catch (ObjectCreationException e) {
+			assertThat(e.getCause(), is(instanceOf(InvocationTargetException.class)));
+			assertThat(e.getCause().getCause(), is(instanceOf(IllegalStateException.class)));
+		}
+	}
+
+	@Test
+	public void createShouldReportAbstractType() throws Exception {
+		try {
+			new BasicNewObjectInstanceFactory(AbstractObject.class).create();
+			fail("Expected ObjectCreationException.");
+		} catch (ObjectCreationException e) {
+			assertThat(e.getCause(), is(instanceOf(InstantiationException.class)));
+		}
+	}
+
+	public static class ThrowingConstructorObject {
+		public ThrowingConstructorObject() {
+			throw new IllegalStateException("cannot construct");
+		}
+	}
+
+	public abstract static class AbstractObject {
+	}
 }
@@ -0,0 +1,128 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.lang.Factory;
+import org.meanbean.util.ServiceFactory;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class FactoryCollectionRepositoryTest {
+
+	private final FactoryCollectionRepository factoryCollectionRepository = new FactoryCollectionRepository();
+
+	private final CountingFactoryLookup countingFactoryLookup = new CountingFactoryLookup(Handled.class);
+
+	@Before
+	public void before() {
+		factoryCollectionRepository.addFactoryLookup(countingFactoryLookup);
+	}
+
+	@Test
+	public void getFactoryShouldResolveEachTypeOnce() throws Exception {
+		Factory<Handled> factory = factoryCollectionRepository.getFactory(Handled.class);
+		assertThat(factoryCollectionRepository.hasFactory(Handled.class), is(true));
+		assertThat(factoryCollectionRepository.getFactory(Handled.class), is(sameInstance(factory)));
+		assertThat(countingFactoryLookup.hasFactoryInvocations.get(), is(1));
+		assertThat(countingFactoryLookup.getFactoryInvocations.get(), is(1));
+	}
+
+	@Test
+	public void hasFactoryShouldRememberMissingFactory() throws Exception {
+		assertThat(factoryCollectionRepository.hasFactory(Unhandled.class), is(false));
+		assertThat(factoryCollectionRepository.hasFactory(Unhandled.class), is(false));
+		assertThat(countingFactoryLookup.hasFactoryInvocations.get(), is(1));
+	}
+
+	@Test(expected = NoSuchFactoryException.class)
+	public void getFactoryShouldThrowNoSuchFactoryExceptionForMissingFactory() throws Exception {
+		factoryCollectionRepository.getFactory(Unhandled.class);
+	}
+
+	@Test
+	public void addFactoryLookupShouldDiscardRememberedResolutions() throws Exception {
+		assertThat(factoryCollectionRepository.hasFactory(Unhandled.class), is(false));
+		factoryCollectionRepository.addFactoryLookup(new CountingFactoryLookup(Unhandled.class));
+		assertThat(factoryCollectionRepository.hasFactory(Unhandled.class), is(true));
+	}
+
+	@Test
+	public void addFactoryShouldDiscardRememberedResolutions() throws Exception {
+		assertThat(factoryCollectionRepository.hasFactory(Unhandled.class), is(false));
+		factoryCollectionRepository.addFactory(Unhandled.class, Unhandled::new);
+		assertThat(factoryCollectionRepository.hasFactory(Unhandled.class), is(true));
+	}
+
+	@Test
+	public void addFactoryShouldOnlyApplyToCurrentScope() throws Exception {
+		ServiceFactory.inScope(() -> {
+			FactoryCollection factoryCollection = FactoryCollection.getInstance();
+			factoryCollection.addFactory(Unhandled.class, Unhandled::new);
+			assertThat(factoryCollection.hasFactory(Unhandled.class), is(true));
+		});
+		ServiceFactory.inScope(() -> assertThat(FactoryCollection.getInstance().hasFactory(Unhandled.class), is(false)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getFactoryShouldPreventNullType() throws Exception {
+		factoryCollectionRepository.getFactory(null);
+	}
+
+	static class Handled {
+	}
+
+	static class Unhandled {
+	}
+
+	static class CountingFactoryLookup implements FactoryLookup {
+
+		private final Class<?> handledType;
+
+		private final AtomicInteger hasFactoryInvocations = new AtomicInteger();
+
+		private final AtomicInteger getFactoryInvocations = new AtomicInteger();
+
+		CountingFactoryLookup(Class<?> handledType) {
+			this.handledType = handledType;
+		}
+
+		@Override
+		public boolean hasFactory(Type type) {
+			if (type == Handled.class || type == Unhandled.class) {
+				hasFactoryInvocations.incrementAndGet();
+			}
+			return type == handledType;
+		}
+
+		@Override
+		public <T> Factory<T> getFactory(Type type) {
+			getFactoryInvocations.incrementAndGet();
+			return () -> null;
+		}
+	}
+}
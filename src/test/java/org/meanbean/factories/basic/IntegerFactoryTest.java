@@ -50,4 +50,12 @@ public class IntegerFactoryTest extends BasicFactoryTestBase<Integer> {
 		assertThat("Incorrect random Integer.", factory.create(), is(RANDOM_INT_1));
 		assertThat("Incorrect random Integer.", factory.create(), is(RANDOM_INT_2));
 	}
+
+	@Test
+	public void fillShouldFillArrayWithExpectedInts() throws Exception {
+		int[] values = new int[2];
+		new IntegerFactory(createRandomNumberGenerator()).fill(values);
+		assertThat("Incorrect random int.", values[0], is(RANDOM_INT_1));
+		assertThat("Incorrect random int.", values[1], is(RANDOM_INT_2));
+	}
 }
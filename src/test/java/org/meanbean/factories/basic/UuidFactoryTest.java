@@ -0,0 +1,65 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+package org.meanbean.factories.basic;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.UUID;
+
+import org.junit.Test;
+import org.meanbean.lang.Factory;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.SimpleRandomValueGenerator;
+
+public class UuidFactoryTest extends BasicFactoryTestBase<UUID> {
+
+	@Override
+	protected Factory<UUID> createFactory(RandomValueGenerator randomValueGenerator) {
+		return new UuidFactory(randomValueGenerator);
+	}
+
+	@Override
+	protected RandomValueGenerator createRandomNumberGenerator() {
+		return new ArrayBasedRandomValueGenerator(null, null, new long[] { -1L, -1L, 0L, 0L }, null, null, null);
+	}
+
+	@Test
+	public void createShouldReturnRandomVersionFourUuids() throws Exception {
+		Factory<UUID> factory = createFactory(createRandomNumberGenerator());
+		assertThat("Incorrect random UUID.", factory.create(), is(UUID.fromString("ffffffff-ffff-4fff-bfff-ffffffffffff")));
+		UUID uuid = factory.create();
+		assertThat("Incorrect random UUID.", uuid, is(UUID.fromString("00000000-0000-4000-8000-000000000000")));
+		assertThat("Incorrect version.", uuid.version(), is(4));
+		assertThat("Incorrect variant.", uuid.variant(), is(2));
+	}
+
+	@Test
+	public void createShouldReturnSameUuidsWhenSeeded() throws Exception {
+		RandomValueGenerator randomValueGenerator = new SimpleRandomValueGenerator();
+		Factory<UUID> factory = createFactory(randomValueGenerator);
+		randomValueGenerator.setSeed(42L);
+		UUID first = factory.create();
+		randomValueGenerator.setSeed(42L);
+		UUID second = factory.create();
+		randomValueGenerator.clearSeed();
+		assertThat("Seeded UUIDs differ.", second, is(first));
+	}
+}
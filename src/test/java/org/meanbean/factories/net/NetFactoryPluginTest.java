@@ -76,6 +76,20 @@ public class NetFactoryPluginTest {
 		assertThat(val1.toString(), is(not(val2.toString())));
 	}
 
+	@Test
+	public void testUrlIsRepeatableWhenSeeded() {
+		NetFactoryPlugin plugin = new NetFactoryPlugin();
+		plugin.initialize(factoryCollection, randomValueGenerator);
+
+		Factory<?> factory = factoryCollection.getFactory(URL.class);
+		randomValueGenerator.setSeed(42L);
+		URL val1 = (URL) factory.create();
+		randomValueGenerator.setSeed(42L);
+		URL val2 = (URL) factory.create();
+		randomValueGenerator.clearSeed();
+		assertThat(val1.toString(), is(val2.toString()));
+	}
+
 	@Test
 	public void testUri() {
 		NetFactoryPlugin plugin = new NetFactoryPlugin();
@@ -55,6 +55,10 @@ public class BeanPropertyTesterTest {
 
 	private PropertyInformation balanceProperty;
 
+	private PropertyInformation ageProperty;
+
+	private PropertyInformation ratioProperty;
+
 	@Before
 	public void before() {
 		BeanInformation beanInformation = new JavaBeanInformationFactory().create(bean.getClass());
@@ -68,6 +72,8 @@ public class BeanPropertyTesterTest {
 		dateOfBirthProperty = propertyMap.get("dateOfBirth");
 		favouriteNumberProperty = propertyMap.get("favouriteNumber");
 		balanceProperty = propertyMap.get("balance");
+		ageProperty = propertyMap.get("age");
+		ratioProperty = propertyMap.get("ratio");
 	}
 
 	@Test(expected = IllegalArgumentException.class)
@@ -137,6 +143,30 @@ public class BeanPropertyTesterTest {
 		beanPropertyTester.testProperty(bean, firstNameProperty, TEST_VALUE, EqualityTest.ABSOLUTE);
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void testIntPropertyShouldPreventNullBean() throws Exception {
+		beanPropertyTester.testIntProperty(null, ageProperty, 42);
+	}
+
+	@Test
+	public void testIntPropertyShouldNotThrowAssertionErrorWhenTestPasses() throws Exception {
+		beanPropertyTester.testIntProperty(bean, ageProperty, 42);
+		assertThat(bean.getAge(), is(42));
+	}
+
+	@Test
+	public void testDoublePropertyShouldThrowAssertionErrorWhenTestFails() throws Exception {
+		AssertionError error = null;
+		try {
+			beanPropertyTester.testDoubleProperty(bean, ratioProperty, 0.25);
+		} catch (AssertionError e) {
+			error = e;
+		}
+		assertThat("AssertionError was not thrown when it should have been.", error, is(not(nullValue())));
+		String expectedMessage = "Property [ratio] getter did not return test value. Expected [0.25] but getter returned [0.5].";
+		assertThat("Incorrect message in AssertionError.", error.getMessage(), is(expectedMessage));
+	}
+
 	@Test
 	public void typesAreCompatibleShouldReturnFalseWhenTypesAreNotCompatible() throws Exception {
 		beanPropertyTester.typesAreCompatible(String.class, Long.class);
@@ -160,6 +190,8 @@ public class BeanPropertyTesterTest {
 
 		private Money balance;
 
+		private int age;
+
 		public void setFirstName(String firstName) {
 			this.firstName = firstName;
 		}
@@ -184,6 +216,22 @@ public class BeanPropertyTesterTest {
 			return 17;
 		}
 
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setRatio(double ratio) {
+			// do nothing
+		}
+
+		public double getRatio() {
+			return 0.5;
+		}
+
 		public Money getBalance() {
 			return balance;
 		}
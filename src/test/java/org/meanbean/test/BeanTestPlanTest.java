@@ -0,0 +1,64 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.junit.Test;
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.test.beans.ComplexBean;
+import org.meanbean.test.internal.EqualityTest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BeanTestPlanTest {
+
+	private final BeanInformation beanInformation = new JavaBeanInformationFactory().create(ComplexBean.class);
+
+	@Test
+	public void compileShouldResolveReadableWritableNonIgnoredProperties() throws Exception {
+		Configuration configuration = new ConfigurationBuilder().ignoreProperty("lastName").build();
+		BeanTestPlan plan = BeanTestPlan.compile(beanInformation, configuration, FactoryLookupStrategy.getInstance());
+
+		List<String> propertyNames = plan.copyProperties().stream()
+				.map(PropertyInformation::getName)
+				.collect(Collectors.toList());
+		assertThat(propertyNames).containsExactlyInAnyOrder("firstName", "dateOfBirth", "favouriteNumber", "id");
+
+		for (PropertyInformation property : plan.copyProperties()) {
+			assertThat(plan.getValueFactory(property).create()).isNotNull();
+			assertThat(plan.getEqualityTest(property)).isEqualTo(EqualityTest.LOGICAL);
+		}
+		assertThat(plan.getBeanFactory().create()).isInstanceOf(ComplexBean.class);
+	}
+
+	@Test
+	public void copyPropertiesShouldReturnIndependentList() throws Exception {
+		BeanTestPlan plan = BeanTestPlan.compile(beanInformation, null, FactoryLookupStrategy.getInstance());
+		List<PropertyInformation> properties = plan.copyProperties();
+		properties.clear();
+		assertThat(plan.copyProperties()).hasSize(5);
+	}
+}
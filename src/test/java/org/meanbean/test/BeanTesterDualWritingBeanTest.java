@@ -27,6 +27,17 @@ public class BeanTesterDualWritingBeanTest {
                 .verifyGettersAndSetters();
     }
 
+    @Test
+    public void testDualWriteFailsWhenOnlyFirstIterationsAreChecked() {
+        thrown.expect(AssertionError.class);
+        thrown.expectMessage("Property [name] appears to have a side-effect on another property [title]");
+
+        // the side-effect is only visible in iterations that happen to test title before name
+        BeanVerifier.forClass(DualWritingSetterBean.class)
+                .withSettings(settings -> settings.setSideEffectDetection(SideEffectDetection.firstIterations(50)))
+                .verifyGettersAndSetters();
+    }
+
     public static class DualWritingSetterBean {
         private String name;
         private String title;
@@ -0,0 +1,229 @@
+package org.meanbean.test;
+
+import org.junit.Test;
+import org.meanbean.util.SplittableRandomValueGenerator;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class BeanTesterReplayTest {
+
+    @Test
+    public void failureShouldReportSeedAndIterationThatReproduceIt() {
+        AssertionError failure = verifyExpectingFailure(settings -> { });
+        ReplayInformation replay = replayInformation(failure);
+
+        AssertionError replayed = verifyExpectingFailure(settings -> settings
+                .replayIteration(replay.getSeed(), replay.getIteration()));
+
+        assertThat(replayed.getMessage(), is(failure.getMessage()));
+        assertThat(replayInformation(replayed).getMessage(), is(replay.getMessage()));
+    }
+
+    @Test
+    public void replayShouldGiveSameValuesToSameProperties() {
+        AssertionError failure = verifyExpectingFailure(MultiPropertyDroppingBean.class, settings -> { });
+        ReplayInformation replay = replayInformation(failure);
+
+        for (int idx = 0; idx < 5; idx++) {
+            AssertionError replayed = verifyExpectingFailure(MultiPropertyDroppingBean.class, settings -> settings
+                    .replayIteration(replay.getSeed(), replay.getIteration()));
+
+            assertThat(replayed.getMessage(), is(failure.getMessage()));
+        }
+    }
+
+    @Test
+    public void configuredSeedShouldMakeFailuresRepeatable() {
+        Configuration configuration = new ConfigurationBuilder()
+                .iterations(1000)
+                .seed(42L)
+                .build();
+
+        AssertionError first = testExpectingFailure(configuration);
+        AssertionError second = testExpectingFailure(configuration);
+
+        assertThat(second.getMessage(), is(first.getMessage()));
+        assertThat(replayInformation(second).getMessage(), is(replayInformation(first).getMessage()));
+    }
+
+    @Test
+    public void parallelIterationsWithSplittableGeneratorShouldBeReplayable() {
+        AssertionError failure = verifyExpectingFailure(settings -> settings
+                .setRandomValueGenerator(new SplittableRandomValueGenerator())
+                .setIterationParallelism(4));
+        ReplayInformation replay = replayInformation(failure);
+
+        AssertionError replayed = verifyExpectingFailure(settings -> settings
+                .setRandomValueGenerator(new SplittableRandomValueGenerator())
+                .replayIteration(replay.getSeed(), replay.getIteration()));
+
+        assertThat(replayed.getMessage(), is(failure.getMessage()));
+    }
+
+    @Test
+    public void splittableGeneratorShouldGenerateValuesFromIterationFork() {
+        RecordingBean.written.clear();
+
+        BeanVerifier.forClass(RecordingBean.class)
+                .withSettings(settings -> settings
+                        .setRandomValueGenerator(new SplittableRandomValueGenerator())
+                        .replayIteration(42L, 3))
+                .verifyGettersAndSetters();
+
+        SplittableRandomValueGenerator fork = new SplittableRandomValueGenerator(42L).fork(3);
+        assertThat(RecordingBean.written, contains(fork.nextInt()));
+    }
+
+    @Test
+    public void failureShouldKeepTheOriginalErrorAndAddReplayInformation() {
+        try {
+            new BeanTester().testBean(FailingEqualsBean.class);
+        } catch (CustomAssertionError e) {
+            assertThat(e.getMessage(), is(nullValue()));
+            assertThat(replayInformation(e).getIteration(), is(0));
+            return;
+        }
+        throw new AssertionError("expected a failure");
+    }
+
+    private static ReplayInformation replayInformation(Throwable failure) {
+        for (Throwable suppressed : failure.getSuppressed()) {
+            if (suppressed instanceof ReplayInformation) {
+                return (ReplayInformation) suppressed;
+            }
+        }
+        throw new AssertionError("expected replay information", failure);
+    }
+
+    private static AssertionError testExpectingFailure(Configuration configuration) {
+        try {
+            new BeanTester().testBean(DivisibleByThreeDroppingBean.class, configuration);
+        } catch (AssertionError e) {
+            return e;
+        }
+        throw new AssertionError("expected a failure");
+    }
+
+    private static AssertionError verifyExpectingFailure(Consumer<VerifierSettings> settings) {
+        return verifyExpectingFailure(DivisibleByThreeDroppingBean.class, settings);
+    }
+
+    private static AssertionError verifyExpectingFailure(Class<?> beanClass, Consumer<VerifierSettings> settings) {
+        try {
+            BeanVerifier.forClass(beanClass)
+                    .withSettings(settings)
+                    .verifyGettersAndSetters();
+        } catch (AssertionError e) {
+            return e;
+        }
+        throw new AssertionError("expected a failure");
+    }
+
+    public static class DivisibleByThreeDroppingBean {
+        private int value;
+
+        public int getValue() {
+            return value;
+        }
+
+        // the setter ignores about a third of all values
+        public void setValue(int value) {
+            if (value % 3 != 0) {
+                this.value = value;
+            }
+        }
+    }
+
+    public static class MultiPropertyDroppingBean {
+        private int first;
+        private int second;
+        private int third;
+        private int fourth;
+
+        public int getFirst() {
+            return first;
+        }
+
+        public void setFirst(int first) {
+            this.first = dropMultipleOfThree(first, this.first);
+        }
+
+        public int getSecond() {
+            return second;
+        }
+
+        public void setSecond(int second) {
+            this.second = dropMultipleOfThree(second, this.second);
+        }
+
+        public int getThird() {
+            return third;
+        }
+
+        public void setThird(int third) {
+            this.third = dropMultipleOfThree(third, this.third);
+        }
+
+        public int getFourth() {
+            return fourth;
+        }
+
+        public void setFourth(int fourth) {
+            this.fourth = dropMultipleOfThree(fourth, this.fourth);
+        }
+
+        private static int dropMultipleOfThree(int value, int current) {
+            return value % 3 != 0 ? value : current;
+        }
+    }
+
+    public static class RecordingBean {
+        static final List<Integer> written = new CopyOnWriteArrayList<>();
+
+        private int value;
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(int value) {
+            written.add(value);
+            this.value = value;
+        }
+    }
+
+    public static class CustomAssertionError extends AssertionError {
+        private static final long serialVersionUID = 1L;
+    }
+
+    public static class FailingEqualsBean {
+        private Token token;
+
+        public Token getToken() {
+            return token;
+        }
+
+        public void setToken(Token token) {
+            this.token = token;
+        }
+    }
+
+    public static class Token {
+        @Override
+        public boolean equals(Object obj) {
+            throw new CustomAssertionError();
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+}
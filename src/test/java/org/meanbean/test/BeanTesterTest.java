@@ -26,17 +26,26 @@ import org.junit.runner.RunWith;
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.PropertyInformation;
 import org.meanbean.factories.FactoryCollection;
+import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
 import org.meanbean.test.beans.Bean;
 import org.meanbean.test.beans.ComplexBean;
 import org.meanbean.test.beans.PackagePrivateConstructorObject;
+import org.meanbean.test.internal.EqualityTest;
 import org.meanbean.util.RandomValueGenerator;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -164,6 +173,99 @@ public class BeanTesterTest {
 		beanTester.testBean(BadComplexBean.class, new ConfigurationBuilder().ignoreProperty("lastName").build());
 	}
 	
+	@Test
+	public void testBeanShouldSpreadIterationsAcrossWorkers() throws Exception {
+		BeanTester parallelBeanTester = new BeanTesterBuilder()
+				.setDefaultIterations(20)
+				.setIterationParallelism(4)
+				.build();
+		assertThat(parallelBeanTester.getIterationParallelism(), is(4));
+		parallelBeanTester.testBean(ComplexBean.class);
+	}
+
+	@Test(expected = AssertionError.class)
+	public void testBeanShouldThrowAssertionErrorForBadGetterBeanWhenIterationsRunInParallel() throws Exception {
+		new BeanTesterBuilder()
+				.setIterationParallelism(4)
+				.build()
+				.testBean(BeanWithBadGetterMethod.class);
+	}
+
+	@Test
+	public void testBeanShouldTestEveryIterationThroughOverriddenTestBean() throws Exception {
+		List<Integer> testedIterations = new CopyOnWriteArrayList<>();
+		new IterationRecordingBeanTester(1, testedIterations).testBean(Bean.class);
+		assertThat(testedIterations, containsInAnyOrder(iterations(beanTester.getIterations())));
+	}
+
+	@Test
+	public void testBeanShouldTestEveryIterationThroughOverriddenTestBeanWhenIterationsRunInParallel()
+			throws Exception {
+		List<Integer> testedIterations = new CopyOnWriteArrayList<>();
+		new IterationRecordingBeanTester(4, testedIterations).testBean(Bean.class);
+		assertThat(testedIterations, containsInAnyOrder(iterations(beanTester.getIterations())));
+	}
+
+	@Test
+	public void testBeanShouldReplayIterationThroughOverriddenTestBean() throws Exception {
+		List<Integer> testedIterations = new CopyOnWriteArrayList<>();
+		Configuration replayConfiguration = new ConfigurationBuilder().replayIteration(42L, 7).build();
+		new IterationRecordingBeanTester(1, testedIterations).testBean(Bean.class, replayConfiguration);
+		assertThat(testedIterations, contains(7));
+	}
+
+	private static Integer[] iterations(int count) {
+		Integer[] iterations = new Integer[count];
+		for (int idx = 0; idx < count; idx++) {
+			iterations[idx] = idx;
+		}
+		return iterations;
+	}
+
+	private static class IterationRecordingBeanTester extends BeanTester {
+
+		private final List<Integer> testedIterations;
+
+		IterationRecordingBeanTester(int iterationParallelism, List<Integer> testedIterations) {
+			super(RandomValueGenerator.getInstance(), FactoryCollection.getInstance(),
+					FactoryLookupStrategy.getInstance(), BeanInformationFactory.getInstance(), new BeanPropertyTester(),
+					new ConcurrentHashMap<>(), Configuration.defaultConfiguration(), iterationParallelism);
+			this.testedIterations = testedIterations;
+		}
+
+		@Override
+		protected void testBean(BeanTestPlan plan, Configuration configuration, long seed, int iteration) {
+			assertThat(plan.getBeanInformation().getBeanClass(), is((Object) Bean.class));
+			testedIterations.add(iteration);
+			super.testBean(plan, configuration, seed, iteration);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setIterationParallelismShouldPreventNonPositiveValue() throws Exception {
+		new BeanTesterBuilder().setIterationParallelism(0);
+	}
+
+	@Test
+	public void testBeanShouldTestPrimitivePropertiesThroughOverriddenTestProperty() throws Exception {
+		List<String> testedProperties = new ArrayList<>();
+		BeanPropertyTester beanPropertyTester = new BeanPropertyTester() {
+			@Override
+			public void testProperty(Object bean, PropertyInformation property, Object testValue,
+			        EqualityTest equalityTest) {
+				testedProperties.add(property.getName());
+				super.testProperty(bean, property, testValue, equalityTest);
+			}
+		};
+		BeanTester tester = new BeanTesterBuilder()
+				.setBeanPropertyTester(beanPropertyTester)
+				.build();
+
+		tester.testBean(PrimitiveBean.class, new ConfigurationBuilder().iterations(1).build());
+
+		assertThat(testedProperties, containsInAnyOrder("count", "enabled"));
+	}
+
 	// TODO TEST COMBINATIONS WITH CONFIGURATIONS AND BEAN INFORMATIONS ETC
 
 	public static class BeanWithBadGetterMethod extends Bean {
@@ -186,4 +288,26 @@ public class BeanTesterTest {
 			return "FIXED_TEST_STRING";
 		}
 	}
+
+	public static class PrimitiveBean {
+		private int count;
+
+		private boolean enabled;
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+	}
 }
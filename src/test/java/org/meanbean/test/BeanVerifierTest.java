@@ -21,12 +21,18 @@
 package org.meanbean.test;
 
 import org.junit.Test;
+import org.meanbean.factories.FactoryCollection;
 import org.meanbean.test.beans.Bean;
 import org.meanbean.test.beans.NonBean;
 import org.meanbean.test.beans.domain.Company;
 import org.meanbean.test.beans.domain.EmployeeId;
 import org.meanbean.test.beans.scan.ScanBean;
+import org.meanbean.util.ServiceFactory;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
@@ -119,4 +125,35 @@ public class BeanVerifierTest {
 	public void verifyPackage() {
 		BeanVerifier.verifyBeansIn(ScanBean.class.getPackage());
 	}
+
+	@Test
+	public void verifyBeansInParallel() {
+		BeanVerifier.verifyBeansInParallel(2, EmployeeId.class, Bean.class, ScanBean.class);
+	}
+
+	@Test
+	public void verifyBeansInParallelFail() {
+		assertThatThrownBy(() -> BeanVerifier.verifyBeansInParallel(2, Company.class, EmployeeId.class, NonBean.class))
+				.isInstanceOf(AssertionError.class)
+				.hasMessage("Cannot verify bean type " + Company.class.getName())
+				.satisfies(error -> assertThat(error.getSuppressed())
+						.extracting(Throwable::getMessage)
+						.containsExactly("Cannot verify bean type " + NonBean.class.getName()));
+	}
+
+	@Test
+	public void verifyBeansInParallelWithinCallersScope() {
+		AtomicInteger created = new AtomicInteger();
+		ServiceFactory.inScope(() -> {
+			FactoryCollection.getInstance().addFactory(String.class, () -> "name" + created.incrementAndGet());
+			BeanVerifier.verifyBeansInParallel(2, Bean.class, ScanBean.class);
+		});
+
+		assertThat(created.get()).isPositive();
+	}
+
+	@Test
+	public void verifyPackageInParallel() {
+		BeanVerifier.verifyBeansInParallel(2, ScanBean.class.getPackage());
+	}
 }
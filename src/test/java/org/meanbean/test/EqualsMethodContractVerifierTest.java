@@ -24,6 +24,7 @@ import org.junit.Test;
 import org.meanbean.lang.EquivalentFactory;
 import org.meanbean.test.beans.BeanFactory;
 import org.meanbean.test.beans.CounterDrivenEqualsBeanFactory;
+import org.meanbean.test.beans.CounterDrivenHashCodeBean;
 import org.meanbean.test.beans.DifferentTypeAcceptingBeanFactory;
 import org.meanbean.test.beans.FieldDrivenEqualsBean;
 import org.meanbean.test.beans.FieldDrivenEqualsBeanFactory;
@@ -31,6 +32,10 @@ import org.meanbean.test.beans.NonReflexiveBeanFactory;
 import org.meanbean.test.beans.NullAcceptingBeanFactory;
 import org.meanbean.test.beans.NullEquivalentFactory;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class EqualsMethodContractVerifierTest {
 
 	private final EqualsMethodContractVerifier verifier = new EqualsMethodContractVerifier();
@@ -222,4 +227,34 @@ public class EqualsMethodContractVerifierTest {
 	public void verifyEqualsShouldThrowAssertionErrorWhenEqualsIsTrueForDifferentType() throws Exception {
 		verifier.verifyEqualsMethod(new DifferentTypeAcceptingBeanFactory());
 	}
+
+	// Equals and hashCode -----------------------------------------------------------------------------------------------
+
+	@Test(expected = IllegalArgumentException.class)
+	public void verifyEqualsAndHashCodeShouldPreventNullFactory() throws Exception {
+		verifier.verifyEqualsAndHashCodeMethods(null);
+	}
+
+	@Test
+	public void verifyEqualsAndHashCodeShouldNotThrowAssertionErrorWhenEqualsAndHashCodeAreCorrect() throws Exception {
+		verifier.verifyEqualsAndHashCodeMethods(new BeanFactory());
+	}
+
+	@Test
+	public void verifyEqualsAndHashCodeShouldCreateOnlyThreeObjects() throws Exception {
+		BeanFactory beanFactory = new BeanFactory();
+		AtomicInteger created = new AtomicInteger();
+
+		verifier.verifyEqualsAndHashCodeMethods(() -> {
+			created.incrementAndGet();
+			return beanFactory.create();
+		});
+
+		assertThat(created).hasValue(3);
+	}
+
+	@Test(expected = AssertionError.class)
+	public void verifyEqualsAndHashCodeShouldThrowAssertionErrorWhenHashCodeIsInconsistent() throws Exception {
+		verifier.verifyEqualsAndHashCodeMethods(CounterDrivenHashCodeBean::new);
+	}
 }
@@ -22,6 +22,7 @@ package org.meanbean.test;
 
 import org.junit.Test;
 import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.PropertyInformation;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
 import org.meanbean.factories.FactoryCollection;
 import org.meanbean.lang.EquivalentFactory;
@@ -44,7 +45,9 @@ import org.meanbean.test.beans.NonBean;
 import org.meanbean.test.beans.NullEquivalentFactory;
 import org.meanbean.test.beans.SelfReferencingBeanFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -382,4 +385,46 @@ public class PropertyBasedEqualsMethodPropertySignificanceVerifierTest {
 		}).build();
 		verifier.verifyEqualsMethod(new BeanFactory(), configuration);
 	}
+
+	@Test
+	public void compileShouldResolveSignificanceOfEachProperty() throws Exception {
+		PropertySignificancePlan plan = verifier.compile(new MultiPropertyBeanFactory(), null, "lastName");
+
+		assertEquals(2, plan.getPropertyChecks().size());
+		for (PropertySignificancePlan.PropertyCheck propertyCheck : plan.getPropertyChecks()) {
+			String propertyName = propertyCheck.getProperty().getName();
+			assertEquals(propertyName, !"lastName".equals(propertyName), propertyCheck.isSignificant());
+		}
+	}
+
+	@Test
+	public void verifyEqualsMethodWithPlanShouldOnlyCreateObjectsToCompare() throws Exception {
+		PropertySignificancePlan plan = verifier.compile(new MultiPropertyBeanFactory(), null);
+		MultiPropertyBeanFactory beanFactory = new MultiPropertyBeanFactory();
+		InvocationCountingFactoryWrapper<MultiPropertyBean> countingFactory =
+		        new InvocationCountingFactoryWrapper<>(beanFactory::create);
+
+		verifier.verifyEqualsMethod(plan, countingFactory::create);
+
+		// an original and a modified object per property
+		assertEquals(4, countingFactory.getInvocationCount());
+	}
+
+	@Test
+	public void verifyEqualsMethodShouldVerifyEachPropertyThroughOverridableHook() throws Exception {
+		List<String> verifiedProperties = new ArrayList<>();
+		PropertyBasedEqualsMethodPropertySignificanceVerifier hookedVerifier =
+		        new PropertyBasedEqualsMethodPropertySignificanceVerifier() {
+			@Override
+			protected void verifyEqualsMethodForProperty(EquivalentFactory<?> factory, PropertyInformation property,
+			        Factory<?> propertyFactory, boolean significant) {
+				verifiedProperties.add(property.getName());
+				super.verifyEqualsMethodForProperty(factory, property, propertyFactory, significant);
+			}
+		};
+
+		hookedVerifier.verifyEqualsMethod(new MultiPropertyBeanFactory());
+
+		assertEquals(2, verifiedProperties.size());
+	}
 }
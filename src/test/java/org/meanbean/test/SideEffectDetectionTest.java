@@ -0,0 +1,54 @@
+package org.meanbean.test;
+
+import org.junit.Test;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.SimpleRandomValueGenerator;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SideEffectDetectionTest {
+
+    private final RandomValueGenerator randomValueGenerator = new SimpleRandomValueGenerator();
+
+    @Test
+    public void fullShouldDetectInEveryIteration() {
+        assertThat(detectedIterations(SideEffectDetection.full(), 5)).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void firstIterationsShouldDetectInFirstIterationsOnly() {
+        assertThat(detectedIterations(SideEffectDetection.firstIterations(2), 5)).containsExactly(0, 1);
+    }
+
+    @Test
+    public void everyNthIterationShouldDetectInFirstAndEveryNthIteration() {
+        assertThat(detectedIterations(SideEffectDetection.everyNthIteration(3), 7)).containsExactly(0, 3, 6);
+    }
+
+    @Test
+    public void sampledShouldDetectInEveryIterationWithProbabilityOne() {
+        assertThat(detectedIterations(SideEffectDetection.sampled(1.0), 5)).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void sampledShouldDetectInSomeIterations() {
+        assertThat(detectedIterations(SideEffectDetection.sampled(0.5), 1000)).hasSizeBetween(1, 999);
+    }
+
+    @Test
+    public void shouldRejectIllegalArguments() {
+        assertThatThrownBy(() -> SideEffectDetection.firstIterations(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SideEffectDetection.everyNthIteration(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SideEffectDetection.sampled(0.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SideEffectDetection.sampled(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int[] detectedIterations(SideEffectDetection sideEffectDetection, int iterations) {
+        return IntStream.range(0, iterations)
+                .filter(iteration -> sideEffectDetection.isDetectedIn(iteration, randomValueGenerator))
+                .toArray();
+    }
+}
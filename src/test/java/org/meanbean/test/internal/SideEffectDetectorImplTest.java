@@ -0,0 +1,105 @@
+package org.meanbean.test.internal;
+
+import org.junit.Test;
+import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.PropertyInformation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SideEffectDetectorImplTest {
+
+    private final SideEffectDetectorImpl sideEffectDetector = new SideEffectDetectorImpl();
+
+    @Test
+    public void shouldReadEachPropertyOnceBeforeTestingAndOnceAfterEachProperty() throws Exception {
+        CountingBean bean = new CountingBean();
+        List<PropertyInformation> properties = sideEffectDetector.init(bean, propertiesOf(CountingBean.class));
+
+        for (PropertyInformation property : properties) {
+            sideEffectDetector.beforeTestProperty(property, EqualityTest.LOGICAL);
+            property.getAccessor().write(bean, "value of " + property.getName());
+            sideEffectDetector.detectAfterTestProperty();
+        }
+
+        assertThat(bean.reads).isEqualTo(3 + 3 * 3);
+    }
+
+    @Test
+    public void shouldDetectSideEffectOnOtherProperty() throws Exception {
+        DualWritingBean bean = new DualWritingBean();
+        List<PropertyInformation> properties = sideEffectDetector.init(bean, propertiesOf(DualWritingBean.class));
+
+        assertThatThrownBy(() -> {
+            for (PropertyInformation property : properties) {
+                sideEffectDetector.beforeTestProperty(property, EqualityTest.LOGICAL);
+                property.getAccessor().write(bean, "value of " + property.getName());
+                sideEffectDetector.detectAfterTestProperty();
+            }
+        }).isInstanceOf(AssertionError.class)
+                .hasMessage("Property [name] appears to have a side-effect on another property [title]");
+    }
+
+    private static List<PropertyInformation> propertiesOf(Class<?> beanClass) {
+        return new ArrayList<>(new JavaBeanInformationFactory().create(beanClass).getProperties());
+    }
+
+    public static class CountingBean {
+        private int reads;
+        private String a;
+        private String b;
+        private String c;
+
+        public String getA() {
+            reads++;
+            return a;
+        }
+
+        public void setA(String a) {
+            this.a = a;
+        }
+
+        public String getB() {
+            reads++;
+            return b;
+        }
+
+        public void setB(String b) {
+            this.b = b;
+        }
+
+        public String getC() {
+            reads++;
+            return c;
+        }
+
+        public void setC(String c) {
+            this.c = c;
+        }
+    }
+
+    public static class DualWritingBean {
+        private String name;
+        private String title = "title";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+            this.title = name;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+package org.meanbean.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.meanbean.test.BeanVerifier;
+import org.meanbean.test.beans.ComplexBean;
+
+public class BufferedRandomValueGeneratorTest {
+
+    private static final int ITERATIONS = 10000;
+
+    private final RandomValueGenerator randomValueGenerator = new BufferedRandomValueGenerator(3);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorShouldPreventEmptyBlocks() {
+        new BufferedRandomValueGenerator(0);
+    }
+
+    @Test
+    public void seededGeneratorShouldRepeatValuesAcrossBlocks() {
+        // Given
+        randomValueGenerator.setSeed(42L);
+        long[] first = new long[10];
+        randomValueGenerator.nextLongs(first);
+        byte firstByte = randomValueGenerator.nextByte();
+        // When
+        randomValueGenerator.setSeed(42L);
+        long[] second = new long[10];
+        randomValueGenerator.nextLongs(second);
+        byte secondByte = randomValueGenerator.nextByte();
+        randomValueGenerator.clearSeed();
+        // Then
+        assertThat("should repeat the seeded sequence.", second, is(first));
+        assertThat("should repeat the seeded sequence.", secondByte, is(firstByte));
+    }
+
+    @Test
+    public void clearedGeneratorShouldNotRepeatSeededValues() {
+        // Given
+        randomValueGenerator.setSeed(42L);
+        long[] seeded = new long[10];
+        randomValueGenerator.nextLongs(seeded);
+        randomValueGenerator.setSeed(42L);
+        randomValueGenerator.nextByte();
+        // When
+        randomValueGenerator.clearSeed();
+        long[] cleared = new long[10];
+        randomValueGenerator.nextLongs(cleared);
+        // Then
+        assertThat("should not repeat the seeded sequence.", cleared, is(not(seeded)));
+    }
+
+    @Test
+    public void nextByteShouldGeneratePositiveAndNegativeNumbers() {
+        // Given
+        int totalPositive = 0;
+        int totalNegative = 0;
+        // When
+        for (int idx = 0; idx < ITERATIONS; idx++) {
+            if (randomValueGenerator.nextByte() < 0) {
+                totalNegative++;
+            } else {
+                totalPositive++;
+            }
+        }
+        // Then
+        assertThat("should generate positive numbers.", totalPositive, is(greaterThan(0)));
+        assertThat("should generate negative numbers.", totalNegative, is(greaterThan(0)));
+    }
+
+    @Test
+    public void nextIntWithBoundShouldGenerateEveryValueWithinBound() {
+        // Given
+        Set<Integer> values = new HashSet<>();
+        // When
+        for (int idx = 0; idx < ITERATIONS; idx++) {
+            values.add(randomValueGenerator.nextInt(7));
+        }
+        // Then
+        assertThat("should generate values between 0 (incl) and 7 (excl).", values.size(), is(7));
+        assertThat("should generate values between 0 (incl) and 7 (excl).", values, everyItem(is(lessThan(7))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nextIntShouldPreventNonPositiveBound() {
+        randomValueGenerator.nextInt(0);
+    }
+
+    @Test
+    public void nextFloatAndNextDoubleShouldGenerateNumbersOnlyWithinZeroInclusiveAndOneExclusive() {
+        // Given
+        int totalOutsideRange = 0;
+        // When
+        for (int idx = 0; idx < ITERATIONS; idx++) {
+            float nextFloat = randomValueGenerator.nextFloat();
+            double nextDouble = randomValueGenerator.nextDouble();
+            if ((nextFloat < 0f) || (nextFloat >= 1f) || (nextDouble < 0d) || (nextDouble >= 1d)) {
+                totalOutsideRange++;
+            }
+        }
+        // Then
+        assertThat("should generate values between 0.0 (incl) and 1.0 (excl).", totalOutsideRange, is(0));
+    }
+
+    @Test
+    public void shouldNotBeRegisteredAsService() {
+        assertThat(RandomValueGenerator.getServiceDefinition().getServiceFactory().getAll().stream()
+                .map(Object::getClass).collect(Collectors.toList()), not(hasItem(BufferedRandomValueGenerator.class)));
+        assertThat("should not replace the default generator.", RandomValueGenerator.getInstance(),
+                is(instanceOf(SimpleRandomValueGenerator.class)));
+    }
+
+    @Test
+    public void shouldBeSelectableInVerifierSettings() {
+        BeanVerifier.forClass(ComplexBean.class)
+                .withSettings(settings -> settings.setRandomValueGenerator(new BufferedRandomValueGenerator()))
+                .verifyGettersAndSetters();
+    }
+}
@@ -0,0 +1,81 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.junit.Test;
+import org.meanbean.test.beans.Bean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ClassFileHeaderTest {
+
+	@Test
+	public void classWithNoArgConstructorShouldBeCandidateBean() throws Exception {
+		ClassFileHeader header = read(Bean.class);
+
+		assertThat(header.isInterface()).isFalse();
+		assertThat(header.isAbstract()).isFalse();
+		assertThat(header.isCandidateBean()).isTrue();
+	}
+
+	@Test
+	public void interfaceShouldNotBeCandidateBean() throws Exception {
+		ClassFileHeader header = read(Serializable.class);
+
+		assertThat(header.isInterface()).isTrue();
+		assertThat(header.isCandidateBean()).isFalse();
+	}
+
+	@Test
+	public void abstractClassShouldNotBeCandidateBean() throws Exception {
+		ClassFileHeader header = read(AbstractList.class);
+
+		assertThat(header.isAbstract()).isTrue();
+		assertThat(header.isCandidateBean()).isFalse();
+	}
+
+	@Test
+	public void classWithoutNoArgConstructorShouldBeCandidateBean() throws Exception {
+		ClassFileHeader header = read(Integer.class);
+
+		assertThat(header.isCandidateBean()).isTrue();
+	}
+
+	@Test
+	public void readShouldRejectStreamThatIsNotClassFile() throws Exception {
+		InputStream notClassFile = new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+
+		assertThatThrownBy(() -> ClassFileHeader.read(notClassFile)).isInstanceOf(IOException.class);
+	}
+
+	private static ClassFileHeader read(Class<?> clazz) throws IOException {
+		try (InputStream classFile = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+			return ClassFileHeader.read(classFile);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.meanbean.util.ClassPath.EntryContents;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassPathIndexTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void getShouldReturnContentsOfIndexedJar() throws Exception {
+		File jar = createJar("a/B.class", "a/c.txt");
+		ClassPathIndex index = new ClassPathIndex(temporaryFolder.newFolder("index").toPath());
+		EntryContents contents = ClassPath.Scanner.readJar(jar, "");
+
+		index.put(jar, contents);
+
+		EntryContents indexed = new ClassPathIndex(temporaryFolder.getRoot().toPath().resolve("index")).get(jar);
+		assertThat(indexed.getResourceNames()).containsExactly("a/B.class", "a/c.txt");
+		assertThat(indexed.getManifestClassPath()).isEmpty();
+	}
+
+	@Test
+	public void getShouldReturnNullForJarNotIndexed() throws Exception {
+		File jar = createJar("a/B.class");
+		ClassPathIndex index = new ClassPathIndex(temporaryFolder.newFolder("index").toPath());
+
+		assertThat(index.get(jar)).isNull();
+	}
+
+	@Test
+	public void getShouldReturnNullForJarChangedSinceIndexed() throws Exception {
+		File jar = createJar("a/B.class");
+		ClassPathIndex index = new ClassPathIndex(temporaryFolder.newFolder("index").toPath());
+		index.put(jar, ClassPath.Scanner.readJar(jar, ""));
+
+		createJar("a/B.class", "a/D.class");
+		jar.setLastModified(jar.lastModified() + 2000);
+
+		assertThat(index.get(jar)).isNull();
+	}
+
+	@Test
+	public void readJarShouldReturnNullForFileThatIsNotJar() throws Exception {
+		File file = temporaryFolder.newFile("not-a.jar");
+
+		assertThat(ClassPath.Scanner.readJar(file, "")).isNull();
+	}
+
+	private File createJar(String... entryNames) throws Exception {
+		File jar = new File(temporaryFolder.getRoot(), "test.jar");
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			for (String entryName : Arrays.asList(entryNames)) {
+				out.putNextEntry(new JarEntry(entryName));
+				out.closeEntry();
+			}
+		}
+		return jar;
+	}
+}
@@ -0,0 +1,68 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.junit.Test;
+import org.meanbean.util.ClassPath.ResourceInfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassPathTest {
+
+	@Test
+	public void parallelScanShouldFindSameResourcesInSameOrderAsSequentialScan() throws Exception {
+		ClassLoader classLoader = ClassPathTest.class.getClassLoader();
+
+		ClassPath sequential = ClassPath.from(classLoader, null, 1);
+		ClassPath parallel = ClassPath.from(classLoader, null, 4);
+
+		assertThat(parallel.getResources()).isNotEmpty()
+				.containsExactlyElementsOf(sequential.getResources());
+	}
+
+	@Test
+	public void scanShouldFindClassesInDirectoriesAndJars() throws Exception {
+		ClassPath classPath = ClassPath.from(ClassPathTest.class.getClassLoader(), null, 4);
+
+		assertThat(classPath.getResources()).extracting(ResourceInfo::getResourceName)
+				.contains("org/meanbean/util/ClassPathTest.class", "org/junit/Test.class");
+	}
+
+	@Test
+	public void packageScanShouldFindSameTopLevelClassesAsFullScan() throws Exception {
+		ClassLoader classLoader = ClassPathTest.class.getClassLoader();
+
+		ClassPath full = ClassPath.from(classLoader, null, 1);
+		ClassPath pruned = ClassPath.fromPackage(classLoader, "org.meanbean.util", null, 1);
+
+		assertThat(pruned.getTopLevelClassesRecursive("org.meanbean.util")).isNotEmpty()
+				.containsExactlyElementsOf(full.getTopLevelClassesRecursive("org.meanbean.util"));
+	}
+
+	@Test
+	public void packageScanShouldOnlyIncludeResourcesInPackage() throws Exception {
+		ClassPath classPath = ClassPath.fromPackage(ClassPathTest.class.getClassLoader(), "org.junit", null, 4);
+
+		assertThat(classPath.getResources()).extracting(ResourceInfo::getResourceName)
+				.contains("org/junit/Test.class")
+				.allMatch(name -> name.startsWith("org/junit/"));
+	}
+}
@@ -0,0 +1,63 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SamplingTablesTest {
+
+	@Test
+	public void testAvailableLocales() {
+		List<Locale> locales = SamplingTables.availableLocales();
+
+		assertThat(locales)
+				.isInstanceOf(RandomAccess.class)
+				.containsExactly(Locale.getAvailableLocales());
+		assertThat(SamplingTables.availableLocales())
+				.isSameAs(locales);
+	}
+
+	@Test
+	public void testAvailableZoneIds() {
+		List<ZoneId> zoneIds = SamplingTables.availableZoneIds();
+
+		assertThat(zoneIds)
+				.isInstanceOf(RandomAccess.class);
+		assertThat(zoneIds.stream().map(ZoneId::getId).collect(Collectors.toList()))
+				.containsExactlyInAnyOrderElementsOf(ZoneId.getAvailableZoneIds())
+				.isSorted();
+		assertThat(SamplingTables.availableZoneIds())
+				.isSameAs(zoneIds);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testTablesAreImmutable() {
+		SamplingTables.availableZoneIds().set(0, ZoneId.of("UTC"));
+	}
+}
@@ -0,0 +1,61 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+package org.meanbean.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+public class ScopedRandomValueGeneratorTest {
+
+    @Test
+    public void shouldGenerateWithDefaultGeneratorWhenNoneIsBound() {
+        // Given
+        RandomValueGenerator generator = new ScopedRandomValueGenerator(new SplittableRandomValueGenerator(42L));
+        RandomValueGenerator expected = new SplittableRandomValueGenerator(42L);
+
+        // Then
+        assertThat(generator.nextLong(), is(expected.nextLong()));
+    }
+
+    @Test
+    public void shouldGenerateWithBoundGeneratorAndRestoreThePreviousOne() {
+        // Given
+        RandomValueGenerator generator = new ScopedRandomValueGenerator(new SplittableRandomValueGenerator(1L));
+        RandomValueGenerator outer = new SplittableRandomValueGenerator(2L);
+        RandomValueGenerator inner = new SplittableRandomValueGenerator(3L);
+        long[] values = new long[3];
+
+        // When
+        ScopedRandomValueGenerator.runWith(new SplittableRandomValueGenerator(2L), () -> {
+            values[0] = generator.nextLong();
+            ScopedRandomValueGenerator.runWith(new SplittableRandomValueGenerator(3L),
+                    () -> values[1] = generator.nextLong());
+            values[2] = generator.nextLong();
+        });
+
+        // Then
+        assertThat(values[0], is(outer.nextLong()));
+        assertThat(values[1], is(inner.nextLong()));
+        assertThat(values[2], is(outer.nextLong()));
+        assertThat(generator.nextLong(), is(new SplittableRandomValueGenerator(1L).nextLong()));
+    }
+}
@@ -24,7 +24,11 @@ import org.junit.Test;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
 
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -48,6 +52,71 @@ public class ServiceFactoryTest {
 				.isSameAs(services2);
 	}
 
+	@Test
+	public void servicesAreSharedAcrossScopes() throws Exception {
+		AtomicReference<List<BeanInformationFactory>> services1 = new AtomicReference<>();
+		AtomicReference<List<BeanInformationFactory>> services2 = new AtomicReference<>();
+		ServiceFactory.inScope(() -> services1.set(getAll()));
+		ServiceFactory.inScope(() -> services2.set(getAll()));
+
+		assertThat(services1.get())
+				.isSameAs(services2.get());
+	}
+
+	@Test
+	public void scopedStateIsDiscardedWhenScopeEnds() throws Exception {
+		Object key = new Object();
+		ServiceFactory.inScope(() -> {
+			ServiceFactory.getScopedState(key, () -> "state");
+			ServiceFactory.inScope(() -> assertThat(ServiceFactory.<String> findScopedState(key)).isEqualTo("state"));
+			assertThat(ServiceFactory.<String> findScopedState(key)).isEqualTo("state");
+		});
+
+		assertThat(ServiceFactory.<String> findScopedState(key)).isNull();
+	}
+
+	@Test
+	public void scopedStateIsVisibleToBoundRunnable() throws Exception {
+		Object key = new Object();
+		AtomicReference<String> seen = new AtomicReference<>();
+		ServiceFactory.inScope(() -> {
+			ServiceFactory.getScopedState(key, () -> "state");
+			Thread thread = new Thread(ServiceFactory.withCurrentScope(() -> seen.set(ServiceFactory.findScopedState(key))));
+			thread.start();
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		assertThat(seen.get()).isEqualTo("state");
+	}
+
+	@Test
+	public void contextClassLoaderIsNotRetained() throws Exception {
+		WeakReference<ClassLoader> classLoader = getAllWithNewContextClassLoader();
+		for (int attempt = 0; attempt < 50 && classLoader.get() != null; attempt++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertThat(classLoader.get()).isNull();
+	}
+
+	private WeakReference<ClassLoader> getAllWithNewContextClassLoader() {
+		ClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+		Thread thread = Thread.currentThread();
+		ClassLoader previous = thread.getContextClassLoader();
+		thread.setContextClassLoader(classLoader);
+		try {
+			getAll();
+		} finally {
+			thread.setContextClassLoader(previous);
+		}
+		return new WeakReference<>(classLoader);
+	}
+
 	private List<BeanInformationFactory> getAll() {
 		return BeanInformationFactory.getServiceDefinition()
 				.getServiceFactory()
@@ -0,0 +1,68 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.junit.Test;
+import org.meanbean.factories.ArrayFactoryLookup;
+import org.meanbean.factories.FactoryLookup;
+import org.meanbean.test.internal.SideEffectDetector;
+import org.meanbean.test.internal.SideEffectDetectorImpl;
+
+import java.util.List;
+import java.util.ServiceConfigurationError;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ServiceLoaderTest {
+
+	@Test
+	public void createAllCreatesNewInstancesEachTime() throws Exception {
+		ServiceLoader<FactoryLookup> serviceLoader = new ServiceLoader<>(FactoryLookup.class);
+
+		List<FactoryLookup> services1 = serviceLoader.createAll();
+		List<FactoryLookup> services2 = new ServiceLoader<>(FactoryLookup.class).createAll();
+
+		assertThat(services1).hasSameSizeAs(services2)
+				.hasAtLeastOneElementOfType(ArrayFactoryLookup.class);
+		for (int idx = 0; idx < services1.size(); idx++) {
+			assertThat(services1.get(idx)).isExactlyInstanceOf(services2.get(idx).getClass())
+					.isNotSameAs(services2.get(idx));
+		}
+	}
+
+	@Test
+	public void createFirstCreatesImplementationWithHighestPrecedence() throws Exception {
+		ServiceLoader<SideEffectDetector> serviceLoader = new ServiceLoader<>(SideEffectDetector.class);
+
+		assertThat(serviceLoader.createFirst())
+				.isInstanceOf(SideEffectDetectorImpl.class)
+				.isNotSameAs(serviceLoader.createFirst());
+	}
+
+	@Test
+	public void createFirstFailsWithoutImplementation() throws Exception {
+		ServiceLoader<Runnable> serviceLoader = new ServiceLoader<>(Runnable.class);
+
+		assertThatThrownBy(serviceLoader::createFirst)
+				.isInstanceOf(ServiceConfigurationError.class);
+	}
+}
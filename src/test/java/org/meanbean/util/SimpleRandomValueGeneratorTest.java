@@ -193,4 +193,33 @@ public class SimpleRandomValueGeneratorTest {
         // Then
         assertThat("should generate doubles between 0.0 (incl) and 1.0 (excl).", totalOutsideRange, is(0));
     }
+
+    @Test
+    public void seededGeneratorsShouldGenerateTheSameValues() {
+        // Given
+        RandomValueGenerator other = new SimpleRandomValueGenerator();
+        // When
+        randomValueGenerator.setSeed(42L);
+        long[] first = { randomValueGenerator.nextLong(), randomValueGenerator.nextInt(), other.nextLong() };
+        randomValueGenerator.setSeed(42L);
+        long[] second = { other.nextLong(), other.nextInt(), randomValueGenerator.nextLong() };
+        randomValueGenerator.clearSeed();
+        // Then
+        assertThat("should repeat the seeded sequence on the current thread.", second, is(first));
+    }
+
+    @Test
+    public void bulkGenerationShouldDrawFromTheSameSequence() {
+        // Given
+        long[] bulk = new long[3];
+        // When
+        randomValueGenerator.setSeed(42L);
+        randomValueGenerator.nextLongs(bulk);
+        randomValueGenerator.setSeed(42L);
+        long[] oneByOne = { randomValueGenerator.nextLong(), randomValueGenerator.nextLong(),
+                randomValueGenerator.nextLong() };
+        randomValueGenerator.clearSeed();
+        // Then
+        assertThat("should generate the same values as one call per value.", bulk, is(oneByOne));
+    }
 }
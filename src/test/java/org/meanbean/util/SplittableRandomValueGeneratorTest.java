@@ -0,0 +1,101 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+package org.meanbean.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class SplittableRandomValueGeneratorTest {
+
+    private static final int ITERATIONS = 10000;
+
+    @Test
+    public void generatorsWithTheSameSeedShouldGenerateTheSameValues() {
+        // Given
+        RandomValueGenerator first = new SplittableRandomValueGenerator(42L);
+        RandomValueGenerator second = new SplittableRandomValueGenerator(42L);
+        // Then
+        assertThat("should generate the same sequence.", second.nextBytes(13), is(first.nextBytes(13)));
+        assertThat("should generate the same sequence.", second.nextLong(), is(first.nextLong()));
+    }
+
+    @Test
+    public void forksShouldDependOnlyOnSeedAndKey() throws Exception {
+        // Given
+        SplittableRandomValueGenerator parent = new SplittableRandomValueGenerator(42L);
+        long expected = parent.fork(7).nextLong();
+        // When
+        long forkedOnOtherThread = CompletableFuture.supplyAsync(() -> parent.fork(7).nextLong()).get();
+        // Then
+        assertThat("should fork the same child on any thread.", forkedOnOtherThread, is(expected));
+        assertThat("should fork independent children for other keys.", parent.fork(8).nextLong(), is(not(expected)));
+    }
+
+    @Test
+    public void seedingShouldRestartTheCurrentThreadStream() {
+        // Given
+        RandomValueGenerator randomValueGenerator = new SplittableRandomValueGenerator();
+        randomValueGenerator.setSeed(42L);
+        int expected = randomValueGenerator.nextInt();
+        // When
+        randomValueGenerator.setSeed(42L);
+        int actual = randomValueGenerator.nextInt();
+        randomValueGenerator.clearSeed();
+        // Then
+        assertThat("should repeat the seeded sequence.", actual, is(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nextBytesShouldPreventNegativeSize() {
+        new SplittableRandomValueGenerator().nextBytes(-1);
+    }
+
+    @Test
+    public void nextFloatShouldGenerateNumbersOnlyWithinZeroInclusiveAndOneExclusive() {
+        // Given
+        RandomValueGenerator randomValueGenerator = new SplittableRandomValueGenerator();
+        int totalOutsideRange = 0;
+        // When
+        for (int idx = 0; idx < ITERATIONS; idx++) {
+            float next = randomValueGenerator.nextFloat();
+            if ((next < 0f) || (next >= 1f)) {
+                totalOutsideRange++;
+            }
+        }
+        // Then
+        assertThat("should generate floats between 0.0 (incl) and 1.0 (excl).", totalOutsideRange, is(0));
+    }
+
+    @Test
+    public void shouldNotBeRegisteredAsService() {
+        assertThat(RandomValueGenerator.getServiceDefinition().getServiceFactory().getAll().stream()
+                .map(Object::getClass).collect(Collectors.toList()), not(hasItem(SplittableRandomValueGenerator.class)));
+        assertThat("should not replace the default generator.", RandomValueGenerator.getInstance(),
+                is(instanceOf(SimpleRandomValueGenerator.class)));
+    }
+}